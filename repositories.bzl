@@ -11,6 +11,8 @@ def com_google_api_codegen_repositories(
         omit_com_google_auto_value_auto_value_annotations = False,
         omit_com_google_code_findbugs_jsr305 = False,
         omit_com_google_code_gson_gson = False,
+        omit_com_google_errorprone_javac_shaded = False,
+        omit_com_google_googlejavaformat_google_java_format = False,
         omit_com_google_guava_guava = False,
         omit_com_google_inject_guice = False,
         omit_commons_cli_commons_cli = False,
@@ -45,6 +47,10 @@ def com_google_api_codegen_repositories(
         com_google_code_findbugs_jsr305()
     if not omit_com_google_code_gson_gson:
         com_google_code_gson_gson()
+    if not omit_com_google_errorprone_javac_shaded:
+        com_google_errorprone_javac_shaded()
+    if not omit_com_google_googlejavaformat_google_java_format:
+        com_google_googlejavaformat_google_java_format()
     if not omit_com_google_guava_guava:
         com_google_guava_guava()
     if not omit_com_google_inject_guice:
@@ -175,6 +181,18 @@ def com_google_code_gson_gson():
         artifact = "com.google.code.gson:gson:2.7",
     )
 
+def com_google_errorprone_javac_shaded():
+    native.maven_jar(
+        name = "com_google_errorprone_javac_shaded",
+        artifact = "com.google.errorprone:javac-shaded:9+181-r4173-1",
+    )
+
+def com_google_googlejavaformat_google_java_format():
+    native.maven_jar(
+        name = "com_google_googlejavaformat_google_java_format",
+        artifact = "com.google.googlejavaformat:google-java-format:1.6",
+    )
+
 def com_google_guava_guava():
     native.maven_jar(
         name = "com_google_guava_guava",
@@ -24,11 +24,20 @@ def _gapic_srcjar_impl(ctx):
         "--output=%s" % output.path,
     ] + optional_arguments
 
+    # The arguments are passed in a param file, so that the generator can run as a persistent
+    # worker, which reads them from the work requests instead of its command line.
+    worker_arguments = ctx.actions.args()
+    worker_arguments.add_all(arguments)
+    worker_arguments.use_param_file("@%s", use_always = True)
+    worker_arguments.set_param_file_format("multiline")
+
     gapic_generator = ctx.executable.gapic_generator
     ctx.actions.run(
         inputs = [ctx.file.src, ctx.file.gapic_yaml] + optional_action_inputs,
         outputs = [output],
-        arguments = arguments,
+        arguments = [worker_arguments],
+        mnemonic = "GapicGenerator",
+        execution_requirements = {"supports-workers": "1"},
         progress_message = "%s: `%s %s`" % (ctx.label, gapic_generator.path, " ".join(arguments)),
         executable = gapic_generator,
     )
@@ -18,12 +18,19 @@ import com.google.api.codegen.configgen.DiscoConfigGeneratorApp;
 import com.google.api.codegen.configgen.GapicConfigGeneratorApp;
 import com.google.api.codegen.discogapic.DiscoGapicGeneratorApp;
 import com.google.api.codegen.gapic.GapicGeneratorApp;
+import com.google.api.codegen.packagegen.CopyStrategy;
 import com.google.api.codegen.packagegen.PackageGeneratorApp;
 import com.google.api.codegen.packagegen.PackagingArtifactType;
 import com.google.api.tools.framework.tools.ToolOptions;
 import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.DefaultParser;
@@ -39,6 +46,9 @@ import org.apache.commons.cli.Options;
 //        --service_yaml=$BASE/src/main/configs/bigtabletableadmin.yaml \
 //        --gapic_yaml=$BASE/src/main/configs/bigtable_table_gapic.yaml \
 //        --output=$BASE
+//
+// Passing --persistent_worker instead runs the generator as a Bazel persistent worker, which reads
+// the command lines of the runs from stdin.
 public class GeneratorMain {
   private static final Option DESCRIPTOR_SET_OPTION =
       Option.builder()
@@ -124,6 +134,40 @@ public class GeneratorMain {
           .argName("PACKAGE-YAML2")
           .required(false)
           .build();
+  private static final Option INCREMENTAL_OPTION =
+      Option.builder()
+          .longOpt("incremental")
+          .desc(
+              "Only generate the config of interfaces that changed since the last incremental run, "
+                  + "and copy the rest from the existing output file.")
+          .required(false)
+          .build();
+  private static final Option CONFIG_CACHE_DIR_OPTION =
+      Option.builder()
+          .longOpt("config_cache_dir")
+          .desc(
+              "Optional. A directory caching the protos that the GAPIC YAML files are converted "
+                  + "to, which can be shared by generator runs.")
+          .hasArg()
+          .argName("CONFIG-CACHE-DIR")
+          .required(false)
+          .build();
+  private static final Option CONTENT_STORE_DIR_OPTION =
+      Option.builder()
+          .longOpt("content_store_dir")
+          .desc(
+              "Optional. A directory storing each distinct generated file once, which can be "
+                  + "shared by generator runs. The generated files are hard links into it.")
+          .hasArg()
+          .argName("CONTENT-STORE-DIR")
+          .required(false)
+          .build();
+  private static final Option FORMAT_OUTPUT_OPTION =
+      Option.builder()
+          .longOpt("format_output")
+          .desc("Format generated Java files with google-java-format before writing them.")
+          .required(false)
+          .build();
   private static final Option DISCOVERY_DOC_OPTION =
       Option.builder()
           .longOpt("discovery_doc")
@@ -141,11 +185,36 @@ public class GeneratorMain {
   }
 
   public static void main(String[] args) throws Exception {
+    if (Arrays.asList(args).contains(GeneratorWorker.PERSISTENT_WORKER_FLAG)) {
+      new GeneratorWorker(System.in, System.out, GeneratorMain::run).run();
+      return;
+    }
+    System.exit(run(expandParamFiles(args)));
+  }
+
+  /**
+   * Replaces each argument of the form @file with the lines of the file, as passed by build tools
+   * that write long command lines to a param file.
+   */
+  private static String[] expandParamFiles(String[] args) throws IOException {
+    List<String> expandedArgs = new ArrayList<>();
+    for (String arg : args) {
+      if (arg.startsWith("@")) {
+        expandedArgs.addAll(
+            Files.readAllLines(Paths.get(arg.substring(1)), StandardCharsets.UTF_8));
+      } else {
+        expandedArgs.add(arg);
+      }
+    }
+    return expandedArgs.toArray(new String[expandedArgs.size()]);
+  }
+
+  /** Runs the generator for the given command line and returns its exit code. */
+  public static int run(String[] args) throws Exception {
     if (args.length == 0) {
       System.err.println("No artifact type given!");
       printAvailableCommands();
-      System.exit(1);
-      return;
+      return 1;
     }
     String command = args[0].toUpperCase();
 
@@ -155,50 +224,42 @@ public class GeneratorMain {
     } catch (Exception e) {
       System.err.println("Unrecognized artifact type: '" + command.toLowerCase() + "'");
       printAvailableCommands();
-      System.exit(1);
-      return;
+      return 1;
     }
 
     switch (artifactType) {
       case GAPIC_CONFIG:
-        gapicConfigGeneratorMain(args);
-        break;
+        return gapicConfigGeneratorMain(args);
       case GAPIC_CODE:
-        gapicGeneratorMain(artifactType, args);
-        break;
+        return gapicGeneratorMain(artifactType, args);
       case GAPIC_PACKAGE:
-        gapicGeneratorMain(artifactType, args);
-        break;
+        return gapicGeneratorMain(artifactType, args);
       case LEGACY_GAPIC_AND_PACKAGE:
-        gapicGeneratorMain(artifactType, args);
-        break;
+        return gapicGeneratorMain(artifactType, args);
       case DISCOGAPIC_CONFIG:
-        discoGapicConfigGeneratorMain(args);
-        break;
+        return discoGapicConfigGeneratorMain(args);
       case DISCOGAPIC_CODE:
-        discoGapicMain(artifactType, args);
-        break;
+        return discoGapicMain(artifactType, args);
       case LEGACY_DISCOGAPIC_AND_PACKAGE:
-        discoGapicMain(artifactType, args);
-        break;
+        return discoGapicMain(artifactType, args);
       case LEGACY_GRPC_PACKAGE:
-        packageGeneratorMain(args);
-        break;
+        return packageGeneratorMain(args);
       default:
         System.err.println(
             "ArtifactType '"
                 + artifactType
                 + "' present in enum but not supported on command line - programmer error?");
-        System.exit(1);
+        return 1;
     }
   }
 
-  public static void gapicConfigGeneratorMain(String[] args) throws Exception {
+  public static int gapicConfigGeneratorMain(String[] args) throws Exception {
     Options options = new Options();
     options.addOption("h", "help", false, "show usage");
     options.addOption(DESCRIPTOR_SET_OPTION);
     options.addOption(SERVICE_YAML_OPTION);
     options.addOption(OUTPUT_OPTION);
+    options.addOption(INCREMENTAL_OPTION);
 
     CommandLine cl = (new DefaultParser()).parse(options, args);
     if (cl.hasOption("help")) {
@@ -209,6 +270,8 @@ public class GeneratorMain {
     ToolOptions toolOptions = ToolOptions.create();
     toolOptions.set(
         GapicConfigGeneratorApp.OUTPUT_FILE, cl.getOptionValue(OUTPUT_OPTION.getLongOpt()));
+    toolOptions.set(
+        GapicConfigGeneratorApp.INCREMENTAL, cl.hasOption(INCREMENTAL_OPTION.getLongOpt()));
     toolOptions.set(
         ToolOptions.DESCRIPTOR_SET, cl.getOptionValue(DESCRIPTOR_SET_OPTION.getLongOpt()));
     toolOptions.set(
@@ -216,10 +279,10 @@ public class GeneratorMain {
         Lists.newArrayList(cl.getOptionValues(SERVICE_YAML_OPTION.getLongOpt())));
     GapicConfigGeneratorApp configGen = new GapicConfigGeneratorApp(toolOptions);
     int exitCode = configGen.run();
-    System.exit(exitCode);
+    return exitCode;
   }
 
-  public static void gapicGeneratorMain(ArtifactType artifactType, String[] args) throws Exception {
+  public static int gapicGeneratorMain(ArtifactType artifactType, String[] args) throws Exception {
     Options options = new Options();
     options.addOption("h", "help", false, "show usage");
     options.addOption(DESCRIPTOR_SET_OPTION);
@@ -250,6 +313,9 @@ public class GeneratorMain {
             .required(false)
             .build();
     options.addOption(devSamplesOption);
+    options.addOption(FORMAT_OUTPUT_OPTION);
+    options.addOption(CONTENT_STORE_DIR_OPTION);
+    options.addOption(CONFIG_CACHE_DIR_OPTION);
 
     CommandLine cl = (new DefaultParser()).parse(options, args);
     if (cl.hasOption("help")) {
@@ -300,13 +366,21 @@ public class GeneratorMain {
     }
 
     toolOptions.set(GapicGeneratorApp.DEV_SAMPLES, cl.hasOption(devSamplesOption.getLongOpt()));
+    toolOptions.set(
+        GapicGeneratorApp.FORMAT_OUTPUT, cl.hasOption(FORMAT_OUTPUT_OPTION.getLongOpt()));
+    toolOptions.set(
+        GapicGeneratorApp.CONTENT_STORE_DIR,
+        cl.getOptionValue(CONTENT_STORE_DIR_OPTION.getLongOpt(), ""));
+    toolOptions.set(
+        GapicGeneratorApp.CONFIG_CACHE_DIR,
+        cl.getOptionValue(CONFIG_CACHE_DIR_OPTION.getLongOpt(), ""));
 
     GapicGeneratorApp codeGen = new GapicGeneratorApp(toolOptions, artifactType);
     int exitCode = codeGen.run();
-    System.exit(exitCode);
+    return exitCode;
   }
 
-  public static void packageGeneratorMain(String[] args) throws Exception {
+  public static int packageGeneratorMain(String[] args) throws Exception {
     Options options = new Options();
     options.addOption("h", "help", false, "show usage");
     options.addOption(DESCRIPTOR_SET_OPTION);
@@ -335,6 +409,18 @@ public class GeneratorMain {
             .required(false)
             .build();
     options.addOption(artifactTypeOption);
+    Option copyStrategyOption =
+        Option.builder()
+            .longOpt("copy_strategy")
+            .desc(
+                "Optional. How source files are transferred to the output directory: 'COPY' "
+                    + "(default) or 'LINK', which hard-links changed files in parallel. "
+                    + "Currently only used for Python.")
+            .hasArg()
+            .argName("COPY-STRATEGY")
+            .required(false)
+            .build();
+    options.addOption(copyStrategyOption);
 
     CommandLine cl = (new DefaultParser()).parse(options, args);
     if (cl.hasOption("help")) {
@@ -367,13 +453,16 @@ public class GeneratorMain {
           PackageGeneratorApp.ARTIFACT_TYPE,
           PackagingArtifactType.of(cl.getOptionValue(artifactTypeOption.getLongOpt())));
     }
+    toolOptions.set(
+        PackageGeneratorApp.COPY_STRATEGY,
+        CopyStrategy.of(cl.getOptionValue(copyStrategyOption.getLongOpt())));
 
     PackageGeneratorApp generator = new PackageGeneratorApp(toolOptions);
     int exitCode = generator.run();
-    System.exit(exitCode);
+    return exitCode;
   }
 
-  public static void discoGapicConfigGeneratorMain(String[] args) throws Exception {
+  public static int discoGapicConfigGeneratorMain(String[] args) throws Exception {
     Options options = new Options();
     options.addOption("h", "help", false, "show usage");
     options.addOption(DISCOVERY_DOC_OPTION);
@@ -393,10 +482,10 @@ public class GeneratorMain {
         cl.getOptionValue(DISCOVERY_DOC_OPTION.getLongOpt()));
     DiscoConfigGeneratorApp configGen = new DiscoConfigGeneratorApp(toolOptions);
     int exitCode = configGen.run();
-    System.exit(exitCode);
+    return exitCode;
   }
 
-  public static void discoGapicMain(ArtifactType artifactType, String[] args) throws Exception {
+  public static int discoGapicMain(ArtifactType artifactType, String[] args) throws Exception {
     Options options = new Options();
     options.addOption("h", "help", false, "show usage");
     // TODO make required after artman passes this in
@@ -417,6 +506,8 @@ public class GeneratorMain {
             .required(false)
             .build();
     options.addOption(enabledArtifactsOption);
+    options.addOption(FORMAT_OUTPUT_OPTION);
+    options.addOption(CONTENT_STORE_DIR_OPTION);
 
     CommandLine cl = (new DefaultParser()).parse(options, args);
     if (cl.hasOption("help")) {
@@ -444,9 +535,14 @@ public class GeneratorMain {
           GapicGeneratorApp.ENABLED_ARTIFACTS,
           Lists.newArrayList(cl.getOptionValues(enabledArtifactsOption.getLongOpt())));
     }
+    toolOptions.set(
+        DiscoGapicGeneratorApp.FORMAT_OUTPUT, cl.hasOption(FORMAT_OUTPUT_OPTION.getLongOpt()));
+    toolOptions.set(
+        DiscoGapicGeneratorApp.CONTENT_STORE_DIR,
+        cl.getOptionValue(CONTENT_STORE_DIR_OPTION.getLongOpt(), ""));
     DiscoGapicGeneratorApp codeGen = new DiscoGapicGeneratorApp(toolOptions, artifactType);
     int exitCode = codeGen.run();
-    System.exit(exitCode);
+    return exitCode;
   }
 
   private static void checkFiles(List<String> files) {
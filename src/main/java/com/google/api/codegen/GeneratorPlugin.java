@@ -0,0 +1,140 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorRequest;
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs the generator as a protoc plugin.
+ *
+ * <p>The plugin reads a CodeGeneratorRequest from stdin and writes a CodeGeneratorResponse holding
+ * the generated files to stdout. The plugin parameter is a comma-separated list of the generator's
+ * command line options without the leading dashes, for example:
+ *
+ * <pre>
+ * protoc --plugin=protoc-gen-gapic=... \
+ *     --gapic_out=language=java,gapic_yaml=library_gapic.yaml,service_yaml=library.yaml:$OUT \
+ *     library.proto
+ * </pre>
+ *
+ * <p>The artifact type is given by the artifact_type parameter and defaults to GAPIC_CODE. The
+ * descriptor set is taken from the request, and the output location from protoc. Files that the
+ * generator places outside of its output directory, such as the Gradle files of Java packages, are
+ * not part of the response.
+ */
+public class GeneratorPlugin {
+  private static final String ARTIFACT_TYPE_PARAMETER = "artifact_type";
+  private static final String DESCRIPTOR_SET_PARAMETER = "descriptor_set";
+  private static final String OUTPUT_PARAMETER = "output";
+
+  private final GeneratorWorker.Command command;
+
+  public GeneratorPlugin(GeneratorWorker.Command command) {
+    this.command = command;
+  }
+
+  public static void main(String[] args) throws Exception {
+    CodeGeneratorRequest request = CodeGeneratorRequest.parseFrom(System.in);
+
+    // stdout carries the response, so anything the generator prints goes to stderr.
+    OutputStream out = System.out;
+    System.setOut(new PrintStream(System.err, true));
+    CodeGeneratorResponse response = new GeneratorPlugin(GeneratorMain::run).generate(request);
+    response.writeTo(out);
+    out.flush();
+  }
+
+  public CodeGeneratorResponse generate(CodeGeneratorRequest request) throws Exception {
+    Path workDir = Files.createTempDirectory("gapic-plugin");
+    try {
+      Path descriptorSet = workDir.resolve("descriptor.desc");
+      try (OutputStream descriptorOut = Files.newOutputStream(descriptorSet)) {
+        FileDescriptorSet.newBuilder()
+            .addAllFile(request.getProtoFileList())
+            .build()
+            .writeTo(descriptorOut);
+      }
+
+      Path outputDir = workDir.resolve("output");
+      Files.createDirectories(outputDir);
+      List<String> args = getArguments(request.getParameter(), descriptorSet, outputDir);
+      int exitCode = command.run(args.toArray(new String[args.size()]));
+      if (exitCode != 0) {
+        return CodeGeneratorResponse.newBuilder()
+            .setError("Generator failed with exit code " + exitCode)
+            .build();
+      }
+
+      return collectFiles(outputDir);
+    } finally {
+      MoreFiles.deleteRecursively(workDir, RecursiveDeleteOption.ALLOW_INSECURE);
+    }
+  }
+
+  private static List<String> getArguments(String parameter, Path descriptorSet, Path outputDir) {
+    String artifactType = ArtifactType.GAPIC_CODE.toString();
+    List<String> args = new ArrayList<>();
+    for (String option : Splitter.on(',').omitEmptyStrings().trimResults().split(parameter)) {
+      int separator = option.indexOf('=');
+      String name = separator < 0 ? option : option.substring(0, separator);
+      if (name.equals(ARTIFACT_TYPE_PARAMETER)) {
+        artifactType = option.substring(separator + 1);
+      } else if (name.equals(DESCRIPTOR_SET_PARAMETER) || name.equals(OUTPUT_PARAMETER)) {
+        throw new IllegalArgumentException(
+            "The " + name + " plugin parameter is set by protoc and cannot be given");
+      } else {
+        args.add("--" + option);
+      }
+    }
+
+    args.add(0, artifactType);
+    args.add("--" + DESCRIPTOR_SET_PARAMETER + "=" + descriptorSet);
+    args.add("--" + OUTPUT_PARAMETER + "=" + outputDir);
+    return args;
+  }
+
+  private static CodeGeneratorResponse collectFiles(Path outputDir) throws IOException {
+    CodeGeneratorResponse.Builder response = CodeGeneratorResponse.newBuilder();
+    List<Path> files;
+    try (Stream<Path> paths = Files.walk(outputDir)) {
+      files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+    }
+    for (Path file : files) {
+      String name = Joiner.on('/').join(outputDir.relativize(file));
+      // Static resources may be binary, so the contents are passed through as bytes.
+      response
+          .addFileBuilder()
+          .setName(name)
+          .setContentBytes(ByteString.copyFrom(Files.readAllBytes(file)));
+    }
+    return response.build();
+  }
+}
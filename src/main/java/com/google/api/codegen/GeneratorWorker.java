@@ -0,0 +1,159 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen;
+
+import com.google.common.io.ByteStreams;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the generator as a Bazel persistent worker.
+ *
+ * <p>Bazel sends length-delimited WorkRequest protos on stdin and reads length-delimited
+ * WorkResponse protos from stdout. Each request holds the command line of one generator run, which
+ * is executed in this process, so that classes, templates and static resources loaded by earlier
+ * runs are reused. Requests are handled one at a time, and anything the run prints is returned in
+ * the output of its response.
+ *
+ * <p>Only the fields of the worker protocol used by the generator are read and written:
+ *
+ * <pre>
+ * message WorkRequest {
+ *   repeated string arguments = 1;
+ *   int32 request_id = 3;
+ * }
+ *
+ * message WorkResponse {
+ *   int32 exit_code = 1;
+ *   string output = 2;
+ *   int32 request_id = 3;
+ * }
+ * </pre>
+ */
+public class GeneratorWorker {
+  /** The flag Bazel passes to the generator to start it as a persistent worker. */
+  public static final String PERSISTENT_WORKER_FLAG = "--persistent_worker";
+
+  private static final int REQUEST_ARGUMENTS_FIELD = 1;
+  private static final int REQUEST_ID_FIELD = 3;
+  private static final int RESPONSE_EXIT_CODE_FIELD = 1;
+  private static final int RESPONSE_OUTPUT_FIELD = 2;
+  private static final int RESPONSE_ID_FIELD = 3;
+
+  /** A generator run for a single request. */
+  public interface Command {
+    int run(String[] args) throws Exception;
+  }
+
+  private final InputStream in;
+  private final OutputStream out;
+  private final Command command;
+
+  public GeneratorWorker(InputStream in, OutputStream out, Command command) {
+    this.in = in;
+    this.out = out;
+    this.command = command;
+  }
+
+  /** Handles requests until stdin is closed. */
+  public void run() throws IOException {
+    WorkRequest request;
+    while ((request = readRequest()) != null) {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      int exitCode = runCommand(request.arguments, output);
+      writeResponse(exitCode, output.toString(StandardCharsets.UTF_8.name()), request.requestId);
+    }
+  }
+
+  private int runCommand(List<String> arguments, ByteArrayOutputStream output)
+      throws IOException {
+    PrintStream capture = new PrintStream(output, true, StandardCharsets.UTF_8.name());
+    PrintStream originalOut = System.out;
+    PrintStream originalErr = System.err;
+    System.setOut(capture);
+    System.setErr(capture);
+    try {
+      return command.run(arguments.toArray(new String[arguments.size()]));
+    } catch (Exception e) {
+      e.printStackTrace(capture);
+      return 1;
+    } finally {
+      System.setOut(originalOut);
+      System.setErr(originalErr);
+      capture.close();
+    }
+  }
+
+  private WorkRequest readRequest() throws IOException {
+    int firstByte = in.read();
+    if (firstByte == -1) {
+      return null;
+    }
+    int size = CodedInputStream.readRawVarint32(firstByte, in);
+    byte[] message = new byte[size];
+    ByteStreams.readFully(in, message);
+
+    WorkRequest request = new WorkRequest();
+    CodedInputStream input = CodedInputStream.newInstance(message);
+    for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+      switch (WireFormat.getTagFieldNumber(tag)) {
+        case REQUEST_ARGUMENTS_FIELD:
+          request.arguments.add(input.readString());
+          break;
+        case REQUEST_ID_FIELD:
+          request.requestId = input.readInt32();
+          break;
+        default:
+          input.skipField(tag);
+      }
+    }
+    return request;
+  }
+
+  private void writeResponse(int exitCode, String output, int requestId) throws IOException {
+    ByteArrayOutputStream message = new ByteArrayOutputStream();
+    CodedOutputStream messageOutput = CodedOutputStream.newInstance(message);
+    if (exitCode != 0) {
+      messageOutput.writeInt32(RESPONSE_EXIT_CODE_FIELD, exitCode);
+    }
+    if (!output.isEmpty()) {
+      messageOutput.writeString(RESPONSE_OUTPUT_FIELD, output);
+    }
+    if (requestId != 0) {
+      messageOutput.writeInt32(RESPONSE_ID_FIELD, requestId);
+    }
+    messageOutput.flush();
+
+    CodedOutputStream delimitedOutput = CodedOutputStream.newInstance(out);
+    delimitedOutput.writeUInt32NoTag(message.size());
+    delimitedOutput.writeRawBytes(message.toByteArray());
+    delimitedOutput.flush();
+    out.flush();
+  }
+
+  private static class WorkRequest {
+    private final List<String> arguments = new ArrayList<>();
+    private int requestId;
+  }
+}
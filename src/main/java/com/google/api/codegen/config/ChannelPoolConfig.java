@@ -0,0 +1,57 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.config;
+
+import com.google.api.codegen.ChannelPoolConfigProto;
+import com.google.api.tools.framework.model.Diag;
+import com.google.api.tools.framework.model.DiagCollector;
+import com.google.api.tools.framework.model.SimpleLocation;
+import com.google.auto.value.AutoValue;
+import javax.annotation.Nullable;
+
+/** ChannelPoolConfig represents the configuration of the gRPC channel pool of an interface. */
+@AutoValue
+public abstract class ChannelPoolConfig {
+  /** The number of channels in the pool, at least one. */
+  public abstract int getPoolSize();
+
+  /** Whether clients of the same endpoint created with the default settings share a pool. */
+  public abstract boolean isSharedAcrossClients();
+
+  /** Whether requests are spread over more than one channel. */
+  public boolean hasMultipleChannels() {
+    return getPoolSize() > 1;
+  }
+
+  /**
+   * Creates an instance of ChannelPoolConfig based on ChannelPoolConfigProto. On errors, null will
+   * be returned, and diagnostics are reported to the diag collector.
+   */
+  @Nullable
+  public static ChannelPoolConfig createChannelPoolConfig(
+      ChannelPoolConfigProto channelPoolConfigProto, DiagCollector diagCollector) {
+    if (channelPoolConfigProto.getPoolSize() < 0) {
+      diagCollector.addDiag(
+          Diag.error(
+              SimpleLocation.TOPLEVEL,
+              "The channel pool size must not be negative, got %d",
+              channelPoolConfigProto.getPoolSize()));
+      return null;
+    }
+    return new AutoValue_ChannelPoolConfig(
+        Math.max(channelPoolConfigProto.getPoolSize(), 1),
+        channelPoolConfigProto.getShareAcrossClients());
+  }
+}
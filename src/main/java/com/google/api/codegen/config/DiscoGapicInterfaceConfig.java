@@ -59,6 +59,13 @@ public abstract class DiscoGapicInterfaceConfig implements InterfaceConfig {
   @Nullable
   public abstract SmokeTestConfig getSmokeTestConfig();
 
+  // Discovery-based clients send requests over HTTP, so they have no gRPC channel pool.
+  @Override
+  @Nullable
+  public ChannelPoolConfig getChannelPoolConfig() {
+    return null;
+  }
+
   // Mapping of a method to its main resource name.
   public abstract Map<MethodConfig, SingleResourceNameConfig> methodToResourceNameMap();
 
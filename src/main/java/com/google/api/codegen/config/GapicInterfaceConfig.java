@@ -87,6 +87,10 @@ public abstract class GapicInterfaceConfig implements InterfaceConfig {
   @Override
   public abstract String getManualDoc();
 
+  @Nullable
+  @Override
+  public abstract ChannelPoolConfig getChannelPoolConfig();
+
   @Override
   public String getName() {
     return getInterfaceNameOverride() != null
@@ -180,6 +184,13 @@ public abstract class GapicInterfaceConfig implements InterfaceConfig {
                 interfaceConfigProto.getLangDoc().get(language.toString().toLowerCase()))
             .trim();
 
+    ChannelPoolConfig channelPoolConfig = null;
+    if (interfaceConfigProto.hasChannelPool()) {
+      channelPoolConfig =
+          ChannelPoolConfig.createChannelPoolConfig(
+              interfaceConfigProto.getChannelPool(), diagCollector);
+    }
+
     if (diagCollector.hasErrors()) {
       return null;
     } else {
@@ -193,7 +204,8 @@ public abstract class GapicInterfaceConfig implements InterfaceConfig {
           retrySettingsDefinition,
           requiredConstructorParams,
           singleResourceNames,
-          manualDoc);
+          manualDoc,
+          channelPoolConfig);
     }
   }
 
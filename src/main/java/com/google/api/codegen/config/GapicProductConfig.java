@@ -26,6 +26,7 @@ import com.google.api.codegen.common.TargetLanguage;
 import com.google.api.codegen.configgen.transformer.LanguageTransformer;
 import com.google.api.codegen.util.LicenseHeaderUtil;
 import com.google.api.codegen.util.ProtoParser;
+import com.google.api.tools.framework.model.BoundedDiagCollector;
 import com.google.api.tools.framework.model.Diag;
 import com.google.api.tools.framework.model.DiagCollector;
 import com.google.api.tools.framework.model.Field;
@@ -36,6 +37,7 @@ import com.google.api.tools.framework.model.ProtoFile;
 import com.google.api.tools.framework.model.SimpleLocation;
 import com.google.api.tools.framework.model.SymbolTable;
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
@@ -49,6 +51,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.annotation.Nullable;
 
 /**
@@ -102,6 +105,15 @@ public abstract class GapicProductConfig implements ProductConfig {
   @Nullable
   public abstract String getConfigSchemaVersion();
 
+  /**
+   * Returns the language-independent index of the proto interfaces of this config. It is computed
+   * on first use and shared by every transformer context created from this config.
+   */
+  @Memoized
+  public GapicProductIndex getProductIndex() {
+    return GapicProductIndex.create(this);
+  }
+
   public GapicProductConfig withPackageName(String packageName) {
     return new AutoValue_GapicProductConfig(
         getInterfaceConfigMap(),
@@ -140,6 +152,21 @@ public abstract class GapicProductConfig implements ProductConfig {
       @Nullable ConfigProto configProto,
       @Nullable String protoPackage,
       TargetLanguage language) {
+    return create(model, configProto, protoPackage, language, true);
+  }
+
+  /**
+   * Creates an instance of GapicProductConfig like {@link #create(Model, ConfigProto, String,
+   * TargetLanguage)}, creating the interface configs in parallel only if inParallel is true.
+   */
+  @Nullable
+  @VisibleForTesting
+  static GapicProductConfig create(
+      Model model,
+      @Nullable ConfigProto configProto,
+      @Nullable String protoPackage,
+      TargetLanguage language,
+      boolean inParallel) {
 
     // Get the proto file containing the first interface listed in the config proto, and use it as
     // the assigned file for generated resource names, and to get the default message namespace
@@ -206,7 +233,8 @@ public abstract class GapicProductConfig implements ProductConfig {
             resourceNameConfigs,
             model.getSymbolTable(),
             language,
-            protoParser);
+            protoParser,
+            inParallel);
 
     ImmutableList<String> copyrightLines = null;
     ImmutableList<String> licenseLines = null;
@@ -369,30 +397,60 @@ public abstract class GapicProductConfig implements ProductConfig {
       ImmutableMap<String, ResourceNameConfig> resourceNameConfigs,
       SymbolTable symbolTable,
       TargetLanguage language,
-      ProtoParser protoParser) {
-    ImmutableMap.Builder<String, InterfaceConfig> interfaceConfigMap = ImmutableMap.builder();
-    for (InterfaceConfigProto interfaceConfigProto : configProto.getInterfacesList()) {
-      Interface apiInterface = symbolTable.lookupInterface(interfaceConfigProto.getName());
-      if (apiInterface == null || !apiInterface.isReachable()) {
-        diagCollector.addDiag(
-            Diag.error(
-                SimpleLocation.TOPLEVEL,
-                "interface not found: %s",
-                interfaceConfigProto.getName()));
-        continue;
+      ProtoParser protoParser,
+      boolean inParallel) {
+    // The interface configs are independent of each other, so they are created in parallel, each
+    // with its own diag collector. The configs check the error count of the collector they are
+    // given, so if there are errors, they are created again one by one with the shared collector,
+    // which reports exactly the diags of a sequential run.
+    if (inParallel && diagCollector.getErrorCount() == 0) {
+      List<InterfaceConfigProto> interfaceConfigProtos = configProto.getInterfacesList();
+      List<BoundedDiagCollector> interfaceDiagCollectors =
+          interfaceConfigProtos
+              .stream()
+              .map(interfaceConfigProto -> new BoundedDiagCollector())
+              .collect(Collectors.toList());
+      List<GapicInterfaceConfig> interfaceConfigs =
+          IntStream.range(0, interfaceConfigProtos.size())
+              .parallel()
+              .mapToObj(
+                  i ->
+                      createInterfaceConfig(
+                          interfaceDiagCollectors.get(i),
+                          interfaceConfigProtos.get(i),
+                          languageSettings,
+                          messageConfigs,
+                          resourceNameConfigs,
+                          symbolTable,
+                          language,
+                          protoParser))
+              .collect(Collectors.toList());
+
+      if (interfaceDiagCollectors.stream().noneMatch(BoundedDiagCollector::hasErrors)) {
+        ImmutableMap.Builder<String, InterfaceConfig> interfaceConfigMap = ImmutableMap.builder();
+        for (int i = 0; i < interfaceConfigProtos.size(); i++) {
+          for (Diag diag : interfaceDiagCollectors.get(i).getDiags()) {
+            diagCollector.addDiag(diag);
+          }
+          if (interfaceConfigs.get(i) != null) {
+            interfaceConfigMap.put(interfaceConfigProtos.get(i).getName(), interfaceConfigs.get(i));
+          }
+        }
+        return interfaceConfigMap.build();
       }
-      String interfaceNameOverride =
-          languageSettings.getInterfaceNamesMap().get(interfaceConfigProto.getName());
+    }
 
+    ImmutableMap.Builder<String, InterfaceConfig> interfaceConfigMap = ImmutableMap.builder();
+    for (InterfaceConfigProto interfaceConfigProto : configProto.getInterfacesList()) {
       GapicInterfaceConfig interfaceConfig =
-          GapicInterfaceConfig.createInterfaceConfig(
+          createInterfaceConfig(
               diagCollector,
-              language,
               interfaceConfigProto,
-              apiInterface,
-              interfaceNameOverride,
+              languageSettings,
               messageConfigs,
               resourceNameConfigs,
+              symbolTable,
+              language,
               protoParser);
       if (interfaceConfig == null) {
         continue;
@@ -407,6 +465,37 @@ public abstract class GapicProductConfig implements ProductConfig {
     }
   }
 
+  @Nullable
+  private static GapicInterfaceConfig createInterfaceConfig(
+      DiagCollector diagCollector,
+      InterfaceConfigProto interfaceConfigProto,
+      LanguageSettingsProto languageSettings,
+      ResourceNameMessageConfigs messageConfigs,
+      ImmutableMap<String, ResourceNameConfig> resourceNameConfigs,
+      SymbolTable symbolTable,
+      TargetLanguage language,
+      ProtoParser protoParser) {
+    Interface apiInterface = symbolTable.lookupInterface(interfaceConfigProto.getName());
+    if (apiInterface == null || !apiInterface.isReachable()) {
+      diagCollector.addDiag(
+          Diag.error(
+              SimpleLocation.TOPLEVEL, "interface not found: %s", interfaceConfigProto.getName()));
+      return null;
+    }
+    String interfaceNameOverride =
+        languageSettings.getInterfaceNamesMap().get(interfaceConfigProto.getName());
+
+    return GapicInterfaceConfig.createInterfaceConfig(
+        diagCollector,
+        language,
+        interfaceConfigProto,
+        apiInterface,
+        interfaceNameOverride,
+        messageConfigs,
+        resourceNameConfigs,
+        protoParser);
+  }
+
   private static ImmutableMap<String, InterfaceConfig> createDiscoGapicInterfaceConfigMap(
       DiscoApiModel model,
       ConfigProto configProto,
@@ -0,0 +1,121 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.config;
+
+import com.google.api.codegen.gapic.ProtoModels;
+import com.google.api.tools.framework.model.Interface;
+import com.google.api.tools.framework.model.Model;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Language-independent facts about the proto interfaces of a GapicProductConfig, computed once per
+ * config and shared by the transformers of every language.
+ *
+ * <p>Facts that depend on the target language, such as the FeatureConfig of the language, are left
+ * to the transformer contexts.
+ */
+public class GapicProductIndex {
+  private final ImmutableMap<String, ? extends InterfaceConfig> interfaceConfigMap;
+  private final ImmutableMap<Interface, Interface> grpcRerouteMap;
+  private final ImmutableMap<String, ImmutableList<MethodModel>> interfaceConfigMethods;
+
+  private GapicProductIndex(
+      ImmutableMap<String, ? extends InterfaceConfig> interfaceConfigMap,
+      ImmutableMap<Interface, Interface> grpcRerouteMap,
+      ImmutableMap<String, ImmutableList<MethodModel>> interfaceConfigMethods) {
+    this.interfaceConfigMap = interfaceConfigMap;
+    this.grpcRerouteMap = grpcRerouteMap;
+    this.interfaceConfigMethods = interfaceConfigMethods;
+  }
+
+  static GapicProductIndex create(GapicProductConfig productConfig) {
+    Set<Model> models = new LinkedHashSet<>();
+    ImmutableMap.Builder<String, ImmutableList<MethodModel>> interfaceConfigMethods =
+        ImmutableMap.builder();
+    for (InterfaceConfig interfaceConfig : productConfig.getInterfaceConfigMap().values()) {
+      if (!(interfaceConfig instanceof GapicInterfaceConfig)) {
+        continue;
+      }
+      models.add(((GapicInterfaceConfig) interfaceConfig).getInterface().getModel());
+
+      ImmutableList.Builder<MethodModel> methods = ImmutableList.builder();
+      for (MethodConfig methodConfig : interfaceConfig.getMethodConfigs()) {
+        methods.add(methodConfig.getMethodModel());
+      }
+      interfaceConfigMethods.put(
+          interfaceConfig.getInterfaceModel().getFullName(), methods.build());
+    }
+
+    Map<Interface, Interface> grpcRerouteMap = new HashMap<>();
+    for (Model model : models) {
+      for (Interface apiInterface : ProtoModels.getInterfaces(model)) {
+        if (!apiInterface.isReachable()) {
+          continue;
+        }
+        InterfaceConfig interfaceConfig = productConfig.getInterfaceConfig(apiInterface);
+        for (MethodConfig methodConfig : interfaceConfig.getMethodConfigs()) {
+          String reroute = methodConfig.getRerouteToGrpcInterface();
+          if (!Strings.isNullOrEmpty(reroute)) {
+            Interface targetInterface = model.getSymbolTable().lookupInterface(reroute);
+            grpcRerouteMap.put(targetInterface, apiInterface);
+          }
+        }
+      }
+    }
+
+    return new GapicProductIndex(
+        productConfig.getInterfaceConfigMap(),
+        ImmutableMap.copyOf(grpcRerouteMap),
+        interfaceConfigMethods.build());
+  }
+
+  /** A map which maps the reroute grpc interface to its original interface */
+  public ImmutableMap<Interface, Interface> getGrpcRerouteMap() {
+    return grpcRerouteMap;
+  }
+
+  /**
+   * Returns the methods of the given interface that have method configs, in the order of the
+   * configs, or an empty list if the interface has no config.
+   */
+  public ImmutableList<MethodModel> getInterfaceConfigMethods(InterfaceModel apiInterface) {
+    ImmutableList<MethodModel> methods = interfaceConfigMethods.get(apiInterface.getFullName());
+    return methods == null ? ImmutableList.of() : methods;
+  }
+
+  /**
+   * Returns the MethodConfig of the given method of the given interface.
+   *
+   * <p>If the interface is a gRPC re-route interface, returns the MethodConfig of the original
+   * method.
+   */
+  public GapicMethodConfig getMethodConfig(Interface apiInterface, MethodModel method) {
+    Interface originalInterface = grpcRerouteMap.getOrDefault(apiInterface, apiInterface);
+    InterfaceConfig originalInterfaceConfig =
+        interfaceConfigMap.get(originalInterface.getFullName());
+    if (originalInterfaceConfig != null) {
+      return (GapicMethodConfig) originalInterfaceConfig.getMethodConfig(method);
+    } else {
+      throw new IllegalArgumentException(
+          "Interface config does not exist for method: " + method.getSimpleName());
+    }
+  }
+}
@@ -32,6 +32,9 @@ public interface InterfaceConfig {
   @Nullable
   SmokeTestConfig getSmokeTestConfig();
 
+  @Nullable
+  ChannelPoolConfig getChannelPoolConfig();
+
   List<? extends MethodConfig> getMethodConfigs();
 
   RetryCodesConfig getRetryCodesConfig();
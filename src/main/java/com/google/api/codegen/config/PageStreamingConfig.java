@@ -36,6 +36,9 @@ public abstract class PageStreamingConfig {
 
   public abstract FieldConfig getResourcesFieldConfig();
 
+  /** The number of pages fetched ahead of the page being consumed. */
+  public abstract int getPrefetchPages();
+
   /**
    * Creates an instance of PageStreamingConfig based on PageStreamingConfigProto, linking it up
    * with the provided method. On errors, null will be returned, and diagnostics are reported to the
@@ -110,11 +113,24 @@ public abstract class PageStreamingConfig {
               methodConfigProto.getResourceNameTreatment());
     }
 
-    if (requestTokenField == null || responseTokenField == null || resourcesFieldConfig == null) {
+    int prefetchPages = pageStreaming.getPrefetchPages();
+    if (prefetchPages < 0) {
+      diagCollector.addDiag(
+          Diag.error(
+              SimpleLocation.TOPLEVEL,
+              "Negative prefetch_pages for page streaming: method = %s, prefetch_pages = %s",
+              method.getFullName(),
+              prefetchPages));
+    }
+
+    if (requestTokenField == null
+        || responseTokenField == null
+        || resourcesFieldConfig == null
+        || prefetchPages < 0) {
       return null;
     }
     return new AutoValue_PageStreamingConfig(
-        requestTokenField, pageSizeField, responseTokenField, resourcesFieldConfig);
+        requestTokenField, pageSizeField, responseTokenField, resourcesFieldConfig, prefetchPages);
   }
 
   /** Returns whether there is a field for page size. */
@@ -122,6 +138,11 @@ public abstract class PageStreamingConfig {
     return getPageSizeField() != null;
   }
 
+  /** Returns whether the pages are fetched ahead of the page being consumed. */
+  public boolean hasPrefetch() {
+    return getPrefetchPages() > 0;
+  }
+
   public FieldModel getResourcesField() {
     return getResourcesFieldConfig().getField();
   }
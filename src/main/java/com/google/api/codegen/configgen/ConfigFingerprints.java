@@ -0,0 +1,152 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.configgen;
+
+import static com.google.api.codegen.configgen.transformer.RetryTransformer.DEFAULT_MAX_RETRY_DELAY;
+
+import com.google.api.codegen.config.ProtoInterfaceModel;
+import com.google.api.codegen.config.ProtoMethodModel;
+import com.google.api.tools.framework.aspects.http.model.HttpAttribute;
+import com.google.api.tools.framework.aspects.http.model.HttpAttribute.PathSegment;
+import com.google.api.tools.framework.model.Interface;
+import com.google.api.tools.framework.model.Method;
+import com.google.common.base.Strings;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.annotation.Nullable;
+
+/**
+ * Fingerprints of the proto interfaces and methods a gapic config was generated from.
+ *
+ * <p>A fingerprint covers everything the config generator reads for an interface or method, so an
+ * interface whose fingerprint did not change between runs of the same generator version generates
+ * the same config. The saved fingerprints also record the generator version and a hash of the
+ * config they were saved with, and only vouch for that config.
+ */
+public class ConfigFingerprints {
+  private static final String FILE_SUFFIX = ".fingerprints";
+  // Keys of the entries that are not proto element fingerprints. Proto names cannot contain '@'.
+  private static final String GENERATOR_VERSION_KEY = "@generator_version";
+  private static final String OUTPUT_KEY = "@output";
+
+  private final String generatorVersion;
+  @Nullable private final String outputHash;
+  private final Map<String, String> fingerprints;
+
+  private ConfigFingerprints(
+      String generatorVersion, @Nullable String outputHash, Map<String, String> fingerprints) {
+    this.generatorVersion = generatorVersion;
+    this.outputHash = outputHash;
+    this.fingerprints = fingerprints;
+  }
+
+  /** Returns the path of the fingerprint file stored next to the given config file. */
+  public static Path getFingerprintPath(Path configFile) {
+    return Paths.get(configFile.toString() + FILE_SUFFIX);
+  }
+
+  public static ConfigFingerprints compute(
+      List<ProtoInterfaceModel> interfaces, String generatorVersion) {
+    Map<String, String> fingerprints = new TreeMap<>();
+    for (ProtoInterfaceModel apiInterface : interfaces) {
+      Interface protoInterface = apiInterface.getInterface();
+      Hasher interfaceHasher =
+          Hashing.sha256().newHasher().putBytes(protoInterface.getProto().toByteArray());
+      for (Method method : protoInterface.getReachableMethods()) {
+        HashCode methodFingerprint = computeMethodFingerprint(method);
+        fingerprints.put(method.getFullName(), methodFingerprint.toString());
+        interfaceHasher.putBytes(methodFingerprint.asBytes());
+      }
+      fingerprints.put(apiInterface.getFullName(), interfaceHasher.hash().toString());
+    }
+    return new ConfigFingerprints(generatorVersion, null, fingerprints);
+  }
+
+  private static HashCode computeMethodFingerprint(Method method) {
+    Hasher hasher =
+        Hashing.sha256()
+            .newHasher()
+            .putBytes(method.getProto().toByteArray())
+            .putBytes(method.getInputType().getMessageType().getProto().toByteArray())
+            .putBytes(method.getOutputType().getMessageType().getProto().toByteArray())
+            .putLong(
+                ProtoMethodTransformer.getTimeoutMillis(
+                    new ProtoMethodModel(method), DEFAULT_MAX_RETRY_DELAY));
+    HttpAttribute httpAttr = method.getAttribute(HttpAttribute.KEY);
+    if (httpAttr != null) {
+      hasher
+          .putString(httpAttr.getMethodKind().toString(), StandardCharsets.UTF_8)
+          .putString(PathSegment.toSyntax(httpAttr.getPath()), StandardCharsets.UTF_8);
+    }
+    return hasher.hash();
+  }
+
+  /** Reads the fingerprints from the given file, or returns none if it does not exist. */
+  public static ConfigFingerprints load(Path file) throws IOException {
+    Map<String, String> fingerprints = new TreeMap<>();
+    if (Files.exists(file)) {
+      for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+        int separator = line.indexOf(' ');
+        if (separator > 0) {
+          fingerprints.put(line.substring(0, separator), line.substring(separator + 1));
+        }
+      }
+    }
+    String generatorVersion = Strings.nullToEmpty(fingerprints.remove(GENERATOR_VERSION_KEY));
+    String outputHash = fingerprints.remove(OUTPUT_KEY);
+    return new ConfigFingerprints(generatorVersion, outputHash, fingerprints);
+  }
+
+  /** Saves the fingerprints to the given file, as the fingerprints of the given config. */
+  public void save(Path file, byte[] output) throws IOException {
+    List<String> lines = new ArrayList<>();
+    lines.add(GENERATOR_VERSION_KEY + " " + generatorVersion);
+    lines.add(OUTPUT_KEY + " " + hashOutput(output));
+    for (Map.Entry<String, String> entry : fingerprints.entrySet()) {
+      lines.add(entry.getKey() + " " + entry.getValue());
+    }
+    Files.write(file, lines, StandardCharsets.UTF_8);
+  }
+
+  /** Returns true if these fingerprints were saved with the given config. */
+  public boolean isFingerprintOf(byte[] output) {
+    return outputHash != null && outputHash.equals(hashOutput(output));
+  }
+
+  /**
+   * Returns true if the given interface has the same fingerprint in this and previous, and both
+   * were computed by the same generator version.
+   */
+  public boolean isUnchanged(String interfaceName, ConfigFingerprints previous) {
+    String fingerprint = fingerprints.get(interfaceName);
+    return generatorVersion.equals(previous.generatorVersion)
+        && fingerprint != null
+        && fingerprint.equals(previous.fingerprints.get(interfaceName));
+  }
+
+  private static String hashOutput(byte[] output) {
+    return Hashing.sha256().hashBytes(output).toString();
+  }
+}
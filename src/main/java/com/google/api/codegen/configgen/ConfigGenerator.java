@@ -20,11 +20,8 @@ import com.google.api.codegen.configgen.nodes.ConfigNode;
 import com.google.api.codegen.configgen.nodes.FieldConfigNode;
 import com.google.api.codegen.configgen.nodes.ListItemConfigNode;
 import com.google.api.codegen.configgen.nodes.ScalarConfigNode;
+import com.google.api.codegen.configgen.nodes.VerbatimConfigNode;
 import com.google.api.tools.framework.util.VisitsBefore;
-import com.google.common.base.Splitter;
-import com.google.common.base.Strings;
-import java.util.ArrayList;
-import java.util.List;
 
 /** Generates the text of the gapic yaml file from a ConfigNode representation. */
 public class ConfigGenerator extends NodeVisitor {
@@ -32,55 +29,45 @@ public class ConfigGenerator extends NodeVisitor {
 
   private static final int TAB_WIDTH = 2;
 
-  private final int indent;
+  private final ConfigWriter writer;
 
-  private final StringBuilder configBuilder = new StringBuilder();
+  private int indent;
 
-  public ConfigGenerator(int indent) {
-    this.indent = indent;
+  public ConfigGenerator(ConfigWriter writer) {
+    this.writer = writer;
   }
 
   @VisitsBefore
   void generate(FieldConfigNode node) {
     appendComment(node.getComment().generate());
-    appendIndent();
+    writer.appendIndent(indent);
 
     if (node.getText().isEmpty()) {
-      configBuilder.append(visitFieldValue(indent, node.getChild()).trim());
+      writer.beginTrimmed();
+      visitFieldValue(indent, node.getChild());
+      writer.endRegion();
     } else {
-      configBuilder
-          .append(node.getText())
-          .append(":")
-          .append(visitFieldValue(indent + TAB_WIDTH, node.getChild()));
+      writer.append(node.getText()).append(":");
+      visitFieldValue(indent + TAB_WIDTH, node.getChild());
     }
   }
 
   @VisitsBefore
   void generate(ListItemConfigNode node) {
     appendComment(node.getComment().generate());
-    ConfigGenerator childGenerator = new ConfigGenerator(indent);
-    childGenerator.visit(node.getChild());
-    String child = childGenerator.toString().trim();
-    boolean isFirst = true;
-    for (String line : Splitter.on(System.lineSeparator()).split(child)) {
-      if (!isFirst) {
-        configBuilder.append(whitespace().trimTrailingFrom(line));
-      } else if (line.trim().startsWith("#")) {
-        appendIndent().append(whitespace().trimTrailingFrom(line));
-      } else {
-        configBuilder
-            .append(Strings.repeat(" ", indent - TAB_WIDTH))
-            .append("- ")
-            .append(line.trim());
-        isFirst = false;
-      }
-      configBuilder.append(System.lineSeparator());
-    }
+    writer.beginListItem(indent, indent - TAB_WIDTH);
+    visit(node.getChild());
+    writer.endRegion();
   }
 
   @VisitsBefore
   void generate(ScalarConfigNode node) {
-    appendIndent().append(node.getText()).append(System.lineSeparator());
+    writer.appendIndent(indent).append(node.getText()).newLine();
+  }
+
+  @VisitsBefore
+  void generate(VerbatimConfigNode node) {
+    writer.append(node.getText());
   }
 
   private void appendComment(String comment) {
@@ -88,70 +75,88 @@ public class ConfigGenerator extends NodeVisitor {
       return;
     }
 
-    for (String commentLine : Splitter.on("\n").split(comment)) {
-      int startIndex = whitespace().negate().indexIn(commentLine);
-      if (startIndex < 0) {
-        appendIndent().append("#").append(System.lineSeparator());
-        continue;
-      }
-
-      for (String line : breakLine(commentLine.trim(), MAX_LINE_WIDTH - indent - startIndex)) {
-        appendIndent().append("# ");
-        appendIndent(startIndex).append(line).append(System.lineSeparator());
+    int lineStart = 0;
+    while (lineStart <= comment.length()) {
+      int lineEnd = comment.indexOf('\n', lineStart);
+      if (lineEnd < 0) {
+        lineEnd = comment.length();
       }
+      appendCommentLine(comment, lineStart, lineEnd);
+      lineStart = lineEnd + 1;
     }
   }
 
-  private List<String> breakLine(String line, int maxWidth) {
-    List<String> lines = new ArrayList<>();
-    while (line.length() > maxWidth) {
-      int split = lineWrapIndex(line, maxWidth);
-      lines.add(line.substring(0, split).trim());
-      line = line.substring(split).trim();
+  private void appendCommentLine(String comment, int lineStart, int lineEnd) {
+    int textStart = skipWhitespace(comment, lineStart, lineEnd);
+    if (textStart == lineEnd) {
+      writer.appendIndent(indent).append("#").newLine();
+      return;
     }
-    lines.add(line.trim());
-    return lines;
+
+    int startIndex = textStart - lineStart;
+    int maxWidth = MAX_LINE_WIDTH - indent - startIndex;
+    int textEnd = trimEnd(comment, textStart, lineEnd);
+    while (textEnd - textStart > maxWidth) {
+      int split = lineWrapIndex(comment, textStart, textEnd, maxWidth);
+      appendCommentText(comment, textStart, trimEnd(comment, textStart, split), startIndex);
+      textStart = skipWhitespace(comment, split, textEnd);
+    }
+    appendCommentText(comment, textStart, textEnd, startIndex);
   }
 
-  private int lineWrapIndex(String line, int maxWidth) {
-    int index = whitespace().lastIndexIn(line.substring(0, maxWidth + 1));
-    if (index >= 0) {
-      return index;
+  private void appendCommentText(String comment, int start, int end, int startIndex) {
+    writer.appendIndent(indent).append("# ");
+    writer.appendIndent(startIndex).append(comment, start, end).newLine();
+  }
+
+  private int lineWrapIndex(String text, int start, int end, int maxWidth) {
+    for (int index = start + maxWidth; index >= start; --index) {
+      if (whitespace().matches(text.charAt(index))) {
+        return index;
+      }
     }
 
-    index = whitespace().indexIn(line, maxWidth);
-    if (index >= 0) {
-      return index;
+    for (int index = start + maxWidth; index < end; ++index) {
+      if (whitespace().matches(text.charAt(index))) {
+        return index;
+      }
     }
 
-    return line.length();
+    return end;
   }
 
-  private StringBuilder appendIndent() {
-    return appendIndent(indent);
+  private static int skipWhitespace(String text, int start, int end) {
+    while (start < end && whitespace().matches(text.charAt(start))) {
+      ++start;
+    }
+    return start;
   }
 
-  private StringBuilder appendIndent(int indent) {
-    return configBuilder.append(Strings.repeat(" ", indent));
+  private static int trimEnd(String text, int start, int end) {
+    while (end > start && whitespace().matches(text.charAt(end - 1))) {
+      --end;
+    }
+    return end;
   }
 
-  private String visitFieldValue(int indent, ConfigNode childNode) {
+  private void visitFieldValue(int childIndent, ConfigNode childNode) {
     if (!childNode.isPresent()) {
-      return String.format(" []%n");
+      writer.append(" []").newLine();
+      return;
     }
 
-    ConfigGenerator childGenerator = new ConfigGenerator(indent);
-    childGenerator.visit(childNode);
-    String child = childGenerator.toString();
+    int parentIndent = indent;
+    indent = childIndent;
     if (childNode instanceof ScalarConfigNode) {
-      return String.format(" %s%n", child.trim());
+      writer.append(" ");
+      writer.beginTrimmed();
+      visit(childNode);
+      writer.endRegion();
+      writer.newLine();
+    } else {
+      writer.newLine();
+      visit(childNode);
     }
-
-    return System.lineSeparator() + child;
-  }
-
-  @Override
-  public String toString() {
-    return configBuilder.toString();
+    indent = parentIndent;
   }
 }
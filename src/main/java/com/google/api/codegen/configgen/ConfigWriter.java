@@ -0,0 +1,237 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.configgen;
+
+import static com.google.common.base.CharMatcher.whitespace;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Streams gapic config text to an Appendable.
+ *
+ * <p>Text can be written inside nested regions. A trimmed region drops its leading and trailing
+ * whitespace. A list item region additionally drops trailing whitespace from each line and writes
+ * the list marker in place of the indentation of its first line that is not a comment. Only
+ * whitespace is held back, so each line is written to the output exactly once.
+ */
+public class ConfigWriter {
+  private final Appendable out;
+  private final Deque<Region> regions = new ArrayDeque<>();
+  private final CharSink outSink;
+
+  public ConfigWriter(Appendable out) {
+    this.out = out;
+    this.outSink = this::writeOut;
+  }
+
+  public ConfigWriter append(CharSequence text) {
+    return append(text, 0, text.length());
+  }
+
+  public ConfigWriter append(CharSequence text, int start, int end) {
+    if (regions.isEmpty()) {
+      try {
+        out.append(text, start, end);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return this;
+    }
+
+    Region region = regions.peek();
+    for (int i = start; i < end; ++i) {
+      region.write(text.charAt(i));
+    }
+    return this;
+  }
+
+  public ConfigWriter appendIndent(int indent) {
+    CharSink sink = currentSink();
+    for (int i = 0; i < indent; ++i) {
+      sink.write(' ');
+    }
+    return this;
+  }
+
+  public ConfigWriter newLine() {
+    return append(System.lineSeparator());
+  }
+
+  /**
+   * Starts a region whose leading and trailing whitespace is dropped. Must be closed with {@link
+   * #endRegion()}.
+   */
+  public void beginTrimmed() {
+    regions.push(new Region(currentSink()));
+  }
+
+  /**
+   * Starts a region holding the contents of a list item at the given indent, with the list marker
+   * at markerIndent. Must be closed with {@link #endRegion()}.
+   */
+  public void beginListItem(int indent, int markerIndent) {
+    regions.push(new ListItemRegion(currentSink(), indent, markerIndent));
+  }
+
+  /** Closes the innermost region. */
+  public void endRegion() {
+    regions.pop().close();
+  }
+
+  private CharSink currentSink() {
+    return regions.isEmpty() ? outSink : regions.peek();
+  }
+
+  private void writeOut(char c) {
+    try {
+      out.append(c);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private interface CharSink {
+    void write(char c);
+  }
+
+  /** A region that drops its leading and trailing whitespace. */
+  private static class Region implements CharSink {
+    protected final CharSink parent;
+    private final StringBuilder pendingWhitespace = new StringBuilder();
+    private boolean leading = true;
+
+    private Region(CharSink parent) {
+      this.parent = parent;
+    }
+
+    @Override
+    public void write(char c) {
+      if (whitespace().matches(c)) {
+        if (!leading) {
+          pendingWhitespace.append(c);
+        }
+        return;
+      }
+
+      leading = false;
+      for (int i = 0; i < pendingWhitespace.length(); ++i) {
+        writeWhitespace(pendingWhitespace.charAt(i));
+      }
+      pendingWhitespace.setLength(0);
+      writeText(c);
+    }
+
+    protected void writeWhitespace(char c) {
+      parent.write(c);
+    }
+
+    protected void writeText(char c) {
+      parent.write(c);
+    }
+
+    protected void close() {}
+  }
+
+  /**
+   * A region that formats the contents of a list item. The first line that is not a comment starts
+   * with the list marker. Comment lines before it are indented, and every line ends with a line
+   * separator with no trailing whitespace.
+   */
+  private static class ListItemRegion extends Region {
+    private final int indent;
+    private final int markerIndent;
+    private final StringBuilder lineIndent = new StringBuilder();
+    private final StringBuilder lineTrailingWhitespace = new StringBuilder();
+    private boolean atLineStart = true;
+    private boolean beforeMarker = true;
+
+    private ListItemRegion(CharSink parent, int indent, int markerIndent) {
+      super(parent);
+      this.indent = indent;
+      this.markerIndent = markerIndent;
+    }
+
+    @Override
+    protected void writeWhitespace(char c) {
+      if (c == '\n') {
+        endLine();
+      } else if (atLineStart) {
+        lineIndent.append(c);
+      } else {
+        lineTrailingWhitespace.append(c);
+      }
+    }
+
+    @Override
+    protected void writeText(char c) {
+      if (!atLineStart) {
+        writeBuffered(lineTrailingWhitespace);
+      } else if (beforeMarker && c == '#') {
+        writeSpaces(indent);
+        writeBuffered(lineIndent);
+      } else if (beforeMarker) {
+        writeMarker();
+        lineIndent.setLength(0);
+      } else {
+        writeBuffered(lineIndent);
+      }
+
+      atLineStart = false;
+      parent.write(c);
+    }
+
+    @Override
+    protected void close() {
+      endLine();
+    }
+
+    private void endLine() {
+      if (atLineStart && beforeMarker) {
+        writeMarker();
+      }
+
+      lineIndent.setLength(0);
+      lineTrailingWhitespace.setLength(0);
+      String separator = System.lineSeparator();
+      for (int i = 0; i < separator.length(); ++i) {
+        parent.write(separator.charAt(i));
+      }
+      atLineStart = true;
+    }
+
+    private void writeMarker() {
+      writeSpaces(markerIndent);
+      parent.write('-');
+      parent.write(' ');
+      beforeMarker = false;
+    }
+
+    private void writeSpaces(int count) {
+      for (int i = 0; i < count; ++i) {
+        parent.write(' ');
+      }
+    }
+
+    private void writeBuffered(StringBuilder buffer) {
+      for (int i = 0; i < buffer.length(); ++i) {
+        parent.write(buffer.charAt(i));
+      }
+      buffer.setLength(0);
+    }
+  }
+}
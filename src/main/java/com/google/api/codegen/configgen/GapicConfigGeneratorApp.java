@@ -14,15 +14,23 @@
  */
 package com.google.api.codegen.configgen;
 
+import com.google.api.codegen.config.ProtoApiModel;
 import com.google.api.codegen.configgen.mergers.ProtoConfigMerger;
 import com.google.api.codegen.configgen.nodes.ConfigNode;
+import com.google.api.codegen.util.GeneratorVersion;
 import com.google.api.tools.framework.model.Diag;
 import com.google.api.tools.framework.model.stages.Merged;
 import com.google.api.tools.framework.tools.ToolDriverBase;
 import com.google.api.tools.framework.tools.ToolOptions;
 import com.google.api.tools.framework.tools.ToolOptions.Option;
-import com.google.api.tools.framework.tools.ToolUtil;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Map;
 
 /** Main class for the config generator. */
@@ -32,6 +40,15 @@ public class GapicConfigGeneratorApp extends ToolDriverBase {
       ToolOptions.createOption(
           String.class, "output_file", "The path of the output file to put generated config.", "");
 
+  public static final Option<Boolean> INCREMENTAL =
+      ToolOptions.createOption(
+          Boolean.class,
+          "incremental",
+          "Copy the config of interfaces whose protos did not change since the last incremental "
+              + "run from the existing output file instead of generating it again. Fingerprints "
+              + "of the protos are kept in a file next to the output file.",
+          false);
+
   /** Constructs a config generator api based on given options. */
   public GapicConfigGeneratorApp(ToolOptions options) {
     super(options);
@@ -48,14 +65,66 @@ public class GapicConfigGeneratorApp extends ToolDriverBase {
     }
 
     String outputPath = options.get(OUTPUT_FILE);
-    Map<String, String> outputFiles = generateConfig(outputPath);
-    ToolUtil.writeFiles(outputFiles, "");
+    generateConfig(outputPath);
   }
 
-  private Map<String, String> generateConfig(String outputPath) {
-    ConfigNode node = new ProtoConfigMerger().mergeConfig(model, outputPath);
-    ConfigGenerator configGenerator = new ConfigGenerator(0);
-    configGenerator.visit(node);
-    return ImmutableMap.of(outputPath, configGenerator.toString());
+  private void generateConfig(String outputPath) throws IOException {
+    Path outputFile = Paths.get(outputPath).toAbsolutePath();
+    boolean incremental = options.get(INCREMENTAL);
+    ConfigFingerprints fingerprints = null;
+    Map<String, ConfigNode> unchangedInterfaceNodes = ImmutableMap.of();
+    if (incremental) {
+      fingerprints =
+          ConfigFingerprints.compute(
+              new ProtoApiModel(model).getInterfaces(), GeneratorVersion.get());
+      unchangedInterfaceNodes = readUnchangedInterfaces(outputFile, fingerprints);
+    }
+
+    ConfigNode node =
+        new ProtoConfigMerger().mergeConfig(model, outputPath, unchangedInterfaceNodes);
+    Files.createDirectories(outputFile.getParent());
+    // The config is written to a temp file and moved into place once it is complete, so that a
+    // failed run leaves the previous output file intact.
+    Path tempFile =
+        Files.createTempFile(outputFile.getParent(), outputFile.getFileName().toString(), ".tmp");
+    byte[] output;
+    try {
+      try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+        ConfigGenerator configGenerator = new ConfigGenerator(new ConfigWriter(writer));
+        configGenerator.visit(node);
+      }
+      output = incremental ? Files.readAllBytes(tempFile) : null;
+      Files.move(
+          tempFile,
+          outputFile,
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+
+    if (incremental) {
+      fingerprints.save(ConfigFingerprints.getFingerprintPath(outputFile), output);
+    }
+  }
+
+  private Map<String, ConfigNode> readUnchangedInterfaces(
+      Path outputFile, ConfigFingerprints fingerprints) throws IOException {
+    Path fingerprintFile = ConfigFingerprints.getFingerprintPath(outputFile);
+    if (!Files.exists(outputFile) || !Files.exists(fingerprintFile)) {
+      return ImmutableMap.of();
+    }
+
+    ConfigFingerprints previousFingerprints = ConfigFingerprints.load(fingerprintFile);
+    byte[] previousConfig = Files.readAllBytes(outputFile);
+    // Only the output the fingerprints were saved with can be reused. The output file may have
+    // been edited, or rewritten by a run that did not save fingerprints, since then.
+    if (!previousFingerprints.isFingerprintOf(previousConfig)) {
+      return ImmutableMap.of();
+    }
+    return new UnchangedInterfaceReader()
+        .read(
+            new String(previousConfig, StandardCharsets.UTF_8),
+            interfaceName -> fingerprints.isUnchanged(interfaceName, previousFingerprints));
   }
 }
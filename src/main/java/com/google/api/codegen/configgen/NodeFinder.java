@@ -14,6 +14,7 @@
  */
 package com.google.api.codegen.configgen;
 
+import com.google.api.codegen.configgen.nodes.ChildIndex;
 import com.google.api.codegen.configgen.nodes.ConfigNode;
 import com.google.api.codegen.configgen.nodes.ListItemConfigNode;
 import com.google.api.codegen.configgen.nodes.NullConfigNode;
@@ -24,6 +25,11 @@ import java.util.NoSuchElementException;
 /** Utilities for finding and traversing ConfigNodes. */
 public class NodeFinder {
   public static ConfigNode findByValue(ConfigNode parentNode, String value) {
+    ChildIndex index = ChildIndex.of(parentNode);
+    if (index != null && !index.isAmbiguous(value)) {
+      return index.findByText(value);
+    }
+
     for (ConfigNode childNode : getChildren(parentNode)) {
       if (value.equals(childNode.getText())) {
         return childNode;
@@ -53,6 +59,11 @@ public class NodeFinder {
   }
 
   public static ConfigNode getLastChild(ConfigNode parentNode) {
+    ChildIndex index = ChildIndex.of(parentNode);
+    if (index != null && index.getLast().isPresent()) {
+      return index.getLast();
+    }
+
     return Iterables.getLast(getChildren(parentNode));
   }
 
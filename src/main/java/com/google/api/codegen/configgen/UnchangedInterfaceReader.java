@@ -0,0 +1,133 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.configgen;
+
+import com.google.api.codegen.configgen.nodes.ConfigNode;
+import com.google.api.codegen.configgen.nodes.VerbatimConfigNode;
+import com.google.common.base.Splitter;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+
+/**
+ * Reads the text of unchanged interfaces from a previously generated gapic config, so that it can
+ * be copied into the new config as is.
+ *
+ * <p>The text of an interface starts after the last line of the preceding interface, so it
+ * includes the comments in front of the interface.
+ */
+public class UnchangedInterfaceReader {
+  private static final String INTERFACES_KEY = "interfaces";
+  private static final String NAME_KEY = "name";
+
+  /**
+   * Returns VerbatimConfigNodes keyed by interface full name, for each interface in the given
+   * config for which isUnchanged returns true. Returns an empty map if the config cannot be read.
+   */
+  public Map<String, ConfigNode> read(String configText, Predicate<String> isUnchanged) {
+    Map<String, ConfigNode> interfaceNodes = new HashMap<>();
+    Node tree;
+    try {
+      tree = new Yaml().compose(new StringReader(configText));
+    } catch (Exception e) {
+      return interfaceNodes;
+    }
+
+    if (!(tree instanceof MappingNode)) {
+      return interfaceNodes;
+    }
+
+    NodeTuple interfacesEntry = findEntry((MappingNode) tree, INTERFACES_KEY);
+    if (interfacesEntry == null || !(interfacesEntry.getValueNode() instanceof SequenceNode)) {
+      return interfaceNodes;
+    }
+
+    List<String> lines = Splitter.on(System.lineSeparator()).splitToList(configText);
+    int prevEndLine = interfacesEntry.getKeyNode().getEndMark().getLine();
+    for (Node interfaceNode : ((SequenceNode) interfacesEntry.getValueNode()).getValue()) {
+      int endLine = getLastContentLine(interfaceNode);
+      String name = getInterfaceName(interfaceNode);
+      if (name != null && isUnchanged.test(name)) {
+        StringBuilder text = new StringBuilder();
+        for (String line : lines.subList(prevEndLine + 1, endLine + 1)) {
+          text.append(line).append(System.lineSeparator());
+        }
+        interfaceNodes.put(name, new VerbatimConfigNode(prevEndLine + 2, text.toString()));
+      }
+      prevEndLine = endLine;
+    }
+    return interfaceNodes;
+  }
+
+  private static String getInterfaceName(Node interfaceNode) {
+    if (!(interfaceNode instanceof MappingNode)) {
+      return null;
+    }
+
+    NodeTuple nameEntry = findEntry((MappingNode) interfaceNode, NAME_KEY);
+    if (nameEntry == null || !(nameEntry.getValueNode() instanceof ScalarNode)) {
+      return null;
+    }
+
+    return ((ScalarNode) nameEntry.getValueNode()).getValue();
+  }
+
+  private static NodeTuple findEntry(MappingNode node, String key) {
+    for (NodeTuple entry : node.getValue()) {
+      Node keyNode = entry.getKeyNode();
+      if (keyNode instanceof ScalarNode && key.equals(((ScalarNode) keyNode).getValue())) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the last line holding content of the given node. The end of a block collection is
+   * only known once the next token is read, so its line is derived from its children instead.
+   * Empty collections can only be written in flow style, so their end is exact.
+   */
+  private static int getLastContentLine(Node node) {
+    if (node instanceof ScalarNode || isEmptyCollection(node)) {
+      return node.getEndMark().getLine();
+    }
+
+    int lastLine = node.getStartMark().getLine();
+    if (node instanceof SequenceNode) {
+      for (Node elem : ((SequenceNode) node).getValue()) {
+        lastLine = Math.max(lastLine, getLastContentLine(elem));
+      }
+    } else if (node instanceof MappingNode) {
+      for (NodeTuple entry : ((MappingNode) node).getValue()) {
+        lastLine = Math.max(lastLine, getLastContentLine(entry.getKeyNode()));
+        lastLine = Math.max(lastLine, getLastContentLine(entry.getValueNode()));
+      }
+    }
+    return lastLine;
+  }
+
+  private static boolean isEmptyCollection(Node node) {
+    return (node instanceof SequenceNode && ((SequenceNode) node).getValue().isEmpty())
+        || (node instanceof MappingNode && ((MappingNode) node).getValue().isEmpty());
+  }
+}
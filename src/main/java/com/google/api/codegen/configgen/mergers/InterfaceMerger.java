@@ -32,16 +32,23 @@ public class InterfaceMerger {
   private final RetryMerger retryMerger;
   private final MethodMerger methodMerger;
   private final InterfaceTransformer interfaceTransformer;
+  private final Map<String, ConfigNode> unchangedInterfaceNodes;
 
+  /**
+   * @param unchangedInterfaceNodes Nodes to use as is for interfaces that did not change since the
+   *     config was last generated, keyed by interface full name.
+   */
   public InterfaceMerger(
       CollectionMerger collectionMerger,
       RetryMerger retryMerger,
       MethodMerger methodMerger,
-      InterfaceTransformer interfaceTransformer) {
+      InterfaceTransformer interfaceTransformer,
+      Map<String, ConfigNode> unchangedInterfaceNodes) {
     this.collectionMerger = collectionMerger;
     this.retryMerger = retryMerger;
     this.methodMerger = methodMerger;
     this.interfaceTransformer = interfaceTransformer;
+    this.unchangedInterfaceNodes = unchangedInterfaceNodes;
   }
 
   public void mergeInterfaces(ApiModel model, ConfigNode configNode) {
@@ -59,7 +66,12 @@ public class InterfaceMerger {
         .setComment(new DefaultComment("A list of API interface configurations."));
   }
 
-  private ListItemConfigNode generateInterfaceNode(int startLine, InterfaceModel apiInterface) {
+  private ConfigNode generateInterfaceNode(int startLine, InterfaceModel apiInterface) {
+    ConfigNode unchangedNode = unchangedInterfaceNodes.get(apiInterface.getFullName());
+    if (unchangedNode != null) {
+      return unchangedNode;
+    }
+
     Map<String, String> collectionNameMap =
         interfaceTransformer.getResourceToEntityNameMap(apiInterface);
     ListItemConfigNode interfaceNode = new ListItemConfigNode(startLine);
@@ -23,13 +23,24 @@ import com.google.api.codegen.configgen.ProtoPageStreamingTransformer;
 import com.google.api.codegen.configgen.nodes.ConfigNode;
 import com.google.api.codegen.util.ProtoParser;
 import com.google.api.tools.framework.model.Model;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
 
 /** Merges the gapic config from a proto Model into a ConfigNode. */
 public class ProtoConfigMerger {
   private ProtoParser protoParser = new ProtoParser();
 
   public ConfigNode mergeConfig(Model model, String fileName) {
-    ConfigMerger configMerger = createMerger(model, fileName);
+    return mergeConfig(model, fileName, ImmutableMap.of());
+  }
+
+  /**
+   * Merges the gapic config, using the given nodes as is for interfaces that did not change since
+   * the config was last generated.
+   */
+  public ConfigNode mergeConfig(
+      Model model, String fileName, Map<String, ConfigNode> unchangedInterfaceNodes) {
+    ConfigMerger configMerger = createMerger(model, fileName, unchangedInterfaceNodes);
     if (configMerger == null) {
       return null;
     }
@@ -37,7 +48,8 @@ public class ProtoConfigMerger {
     return configMerger.mergeConfig(new ProtoApiModel(model));
   }
 
-  private ConfigMerger createMerger(Model model, String fileName) {
+  private ConfigMerger createMerger(
+      Model model, String fileName, Map<String, ConfigNode> unchangedInterfaceNodes) {
     ConfigHelper helper = new ConfigHelper(model.getDiagReporter().getDiagCollector(), fileName);
     String packageName = protoParser.getPackageName(model);
     if (packageName == null) {
@@ -54,7 +66,12 @@ public class ProtoConfigMerger {
     LanguageSettingsMerger languageSettingsMerger = new LanguageSettingsMerger();
     InterfaceTransformer interfaceTranformer = new ProtoInterfaceTransformer();
     InterfaceMerger interfaceMerger =
-        new InterfaceMerger(collectionMerger, retryMerger, methodMerger, interfaceTranformer);
+        new InterfaceMerger(
+            collectionMerger,
+            retryMerger,
+            methodMerger,
+            interfaceTranformer,
+            unchangedInterfaceNodes);
     return new ConfigMerger(languageSettingsMerger, interfaceMerger, packageName, helper);
   }
 }
@@ -19,6 +19,7 @@ public abstract class BaseConfigNode implements ConfigNode {
   private final int startLine;
   private final String text;
   private ConfigNode next = new NullConfigNode();
+  private ChildIndex siblingIndex;
 
   protected BaseConfigNode(int startLine, String text) {
     this.startLine = startLine;
@@ -52,15 +53,25 @@ public abstract class BaseConfigNode implements ConfigNode {
 
   @Override
   public ConfigNode insertNext(ConfigNode next) {
+    ConfigNode oldNext = this.next;
     if (next != null) {
       this.next = next.insertNext(this.next);
     } else {
       this.next = new NullConfigNode();
     }
 
+    if (siblingIndex != null) {
+      siblingIndex.onInsert(this, oldNext);
+    }
+
     return this;
   }
 
+  /** Sets the index of the parent this node is a child of. */
+  void setSiblingIndex(ChildIndex siblingIndex) {
+    this.siblingIndex = siblingIndex;
+  }
+
   @Override
   public boolean isPresent() {
     return true;
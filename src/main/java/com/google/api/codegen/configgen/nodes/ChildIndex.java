@@ -0,0 +1,121 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.configgen.nodes;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes the children of a ConfigNode by text, and tracks the last child, so that lookups do not
+ * need to walk the sibling chain.
+ *
+ * <p>The index is owned by the parent node and kept up to date by the parent's setChild and by
+ * insertNext on any of its children.
+ */
+public class ChildIndex {
+  private final ConfigNode parent;
+  private final Map<String, ConfigNode> nodesByText = new HashMap<>();
+  private final Set<String> duplicateTexts = new HashSet<>();
+  private ConfigNode last = new NullConfigNode();
+
+  private ChildIndex(ConfigNode parent) {
+    this.parent = parent;
+  }
+
+  /** Creates an index over the sibling chain starting at firstChild. */
+  static ChildIndex create(ConfigNode parent, ConfigNode firstChild) {
+    ChildIndex index = new ChildIndex(parent);
+    if (firstChild != null) {
+      index.addAll(firstChild, new NullConfigNode());
+    }
+    return index;
+  }
+
+  /**
+   * Returns the index of the given node's children, or null if the node does not maintain one.
+   */
+  public static ChildIndex of(ConfigNode parentNode) {
+    if (parentNode instanceof FieldConfigNode) {
+      return ((FieldConfigNode) parentNode).getChildIndex();
+    }
+
+    if (parentNode instanceof ListItemConfigNode) {
+      return ((ListItemConfigNode) parentNode).getChildIndex();
+    }
+
+    return null;
+  }
+
+  /**
+   * Returns true if more than one child has the given text, in which case the index cannot tell
+   * which of them comes first.
+   */
+  public boolean isAmbiguous(String text) {
+    return duplicateTexts.contains(text);
+  }
+
+  /** Returns the child with the given text or NullConfigNode if there is none. */
+  public ConfigNode findByText(String text) {
+    ConfigNode node = nodesByText.get(text);
+    return node == null ? new NullConfigNode() : node;
+  }
+
+  /** Returns the last child or NullConfigNode if there are no children. */
+  public ConfigNode getLast() {
+    return last;
+  }
+
+  /** Called after nodes were inserted following prev, which was previously followed by oldNext. */
+  void onInsert(BaseConfigNode prev, ConfigNode oldNext) {
+    if (prev.getNext().isPresent() || !oldNext.isPresent()) {
+      addAll(prev.getNext(), oldNext);
+    } else {
+      // The chain was truncated after prev.
+      rebuild();
+    }
+  }
+
+  private void addAll(ConfigNode start, ConfigNode end) {
+    for (ConfigNode node = start; node.isPresent() && node != end; node = node.getNext()) {
+      add(node);
+    }
+  }
+
+  private void add(ConfigNode node) {
+    if (node instanceof BaseConfigNode) {
+      ((BaseConfigNode) node).setSiblingIndex(this);
+    }
+
+    String text = node.getText();
+    if (nodesByText.containsKey(text)) {
+      duplicateTexts.add(text);
+    } else {
+      nodesByText.put(text, node);
+    }
+
+    if (!node.getNext().isPresent()) {
+      last = node;
+    }
+  }
+
+  private void rebuild() {
+    nodesByText.clear();
+    duplicateTexts.clear();
+    last = new NullConfigNode();
+    addAll(parent.getChild(), new NullConfigNode());
+  }
+}
@@ -23,6 +23,7 @@ import com.google.api.codegen.configgen.nodes.metadata.NullComment;
 public class FieldConfigNode extends BaseConfigNode {
   private ConfigNode child;
   private Comment comment;
+  private ChildIndex childIndex = ChildIndex.create(this, null);
 
   public static FieldConfigNode createStringPair(int startLine, String key, String value) {
     return new FieldConfigNode(startLine, key).setChild(new ScalarConfigNode(startLine, value));
@@ -37,6 +38,11 @@ public class FieldConfigNode extends BaseConfigNode {
     return child == null ? new NullConfigNode() : child;
   }
 
+  /** Returns the index of this node's children. */
+  public ChildIndex getChildIndex() {
+    return childIndex;
+  }
+
   public Comment getComment() {
     return comment == null ? new NullComment() : comment;
   }
@@ -45,6 +51,7 @@ public class FieldConfigNode extends BaseConfigNode {
   public FieldConfigNode setChild(ConfigNode child) {
     checkArgument(this != child, "Cannot set node to be its own child");
     this.child = child;
+    this.childIndex = ChildIndex.create(this, child);
     return this;
   }
 
@@ -23,6 +23,7 @@ import com.google.api.codegen.configgen.nodes.metadata.NullComment;
 public class ListItemConfigNode extends BaseConfigNode {
   private ConfigNode child;
   private Comment comment;
+  private ChildIndex childIndex = ChildIndex.create(this, null);
 
   public ListItemConfigNode(int startLine) {
     super(startLine, "");
@@ -33,6 +34,11 @@ public class ListItemConfigNode extends BaseConfigNode {
     return child == null ? new NullConfigNode() : child;
   }
 
+  /** Returns the index of this node's children. */
+  public ChildIndex getChildIndex() {
+    return childIndex;
+  }
+
   public Comment getComment() {
     return comment == null ? new NullComment() : comment;
   }
@@ -41,6 +47,7 @@ public class ListItemConfigNode extends BaseConfigNode {
   public ListItemConfigNode setChild(ConfigNode child) {
     checkArgument(this != child, "Cannot set node to be its own child");
     this.child = child;
+    this.childIndex = ChildIndex.create(this, child);
     return this;
   }
 
@@ -0,0 +1,26 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.configgen.nodes;
+
+/**
+ * Represents lines copied unchanged from an existing gapic config.
+ *
+ * <p>The text includes its indentation and line separators, and is emitted as is.
+ */
+public class VerbatimConfigNode extends BaseConfigNode {
+  public VerbatimConfigNode(int startLine, String text) {
+    super(startLine, text);
+  }
+}
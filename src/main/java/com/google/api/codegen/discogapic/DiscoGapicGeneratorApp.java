@@ -34,6 +34,8 @@ import com.google.api.codegen.configgen.nodes.ConfigNode;
 import com.google.api.codegen.discovery.DiscoveryNode;
 import com.google.api.codegen.discovery.Document;
 import com.google.api.codegen.gapic.ArtifactFlags;
+import com.google.api.codegen.util.ContentAddressedFileWriter;
+import com.google.api.codegen.util.java.JavaSourceFormatter;
 import com.google.api.tools.framework.model.DiagCollector;
 import com.google.api.tools.framework.model.SimpleDiagCollector;
 import com.google.api.tools.framework.tools.ToolOptions;
@@ -42,6 +44,7 @@ import com.google.api.tools.framework.tools.ToolUtil;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import com.google.inject.TypeLiteral;
 import java.io.File;
@@ -50,6 +53,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.MalformedURLException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -89,6 +93,22 @@ public class DiscoGapicGeneratorApp {
           "The artifacts to be generated by the code generator.",
           ImmutableList.of());
 
+  public static final Option<Boolean> FORMAT_OUTPUT =
+      ToolOptions.createOption(
+          Boolean.class,
+          "format_output",
+          "Whether to format generated Java files with google-java-format.",
+          false);
+
+  public static final Option<String> CONTENT_STORE_DIR =
+      ToolOptions.createOption(
+          String.class,
+          "content_store_dir",
+          "A directory storing each distinct generated file once. If set, the generated files are "
+              + "read-only hard links into this directory, and must be replaced rather than "
+              + "modified in place.",
+          "");
+
   private final ToolOptions options;
   private final ArtifactType artifactType;
 
@@ -190,19 +210,32 @@ public class DiscoGapicGeneratorApp {
     for (CodeGenerator<?> generator : generators) {
       outputFiles.putAll(GeneratedResult.extractBodies(generator.generate()));
     }
-    writeCodeGenOutput(outputFiles, options.get(OUTPUT_FILE));
+    if (options.get(FORMAT_OUTPUT)) {
+      outputFiles = new JavaSourceFormatter().formatJavaDocs(outputFiles);
+    }
+    String contentStoreDir = options.get(CONTENT_STORE_DIR);
+    if (!Strings.isNullOrEmpty(contentStoreDir) && !isJarPath(options.get(OUTPUT_FILE))) {
+      new ContentAddressedFileWriter(Paths.get(contentStoreDir))
+          .writeFiles(outputFiles, options.get(OUTPUT_FILE), ImmutableSet.of());
+    } else {
+      writeCodeGenOutput(outputFiles, options.get(OUTPUT_FILE));
+    }
     return 0;
   }
 
   private void writeCodeGenOutput(Map<String, ?> outputFiles, String outputPath)
       throws IOException {
-    if (outputPath.endsWith(".jar") || outputPath.endsWith(".srcjar")) {
+    if (isJarPath(outputPath)) {
       ToolUtil.writeJar(outputFiles, outputPath);
     } else {
       ToolUtil.writeFiles(outputFiles, outputPath);
     }
   }
 
+  private static boolean isJarPath(String outputPath) {
+    return outputPath.endsWith(".jar") || outputPath.endsWith(".srcjar");
+  }
+
   private static List<File> pathsToFiles(List<String> configFileNames) {
     List<File> files = new ArrayList<>();
 
@@ -82,12 +82,16 @@ public class JavaDiscoGapicRequestToViewTransformer
    */
   private static final Map<String, String> STANDARD_QUERY_PARAMS;
 
+  /** The standard query parameter that selects the fields to include in partial responses. */
+  private static final String FIELDS_PARAM = "fields";
+
   static {
     ImmutableMap.Builder<String, String> queryParams = ImmutableMap.builder();
     queryParams.put("access_token", "OAuth 2.0 token for the current user.");
     queryParams.put(
         "callback", "Name of the JavaScript callback function that handles the response.");
-    queryParams.put("fields", "Selector specifying a subset of fields to include in the response.");
+    queryParams.put(
+        FIELDS_PARAM, "Selector specifying a subset of fields to include in the response.");
     queryParams.put("key", "API key. Required unless you provide an OAuth 2.0 token.");
     queryParams.put("prettyPrint", "Returns response with indentations and line breaks.");
     queryParams.put("quotaUser", "Alternative to userIp.");
@@ -209,6 +213,7 @@ public class JavaDiscoGapicRequestToViewTransformer
     requestView.innerTypeName(requestTypeName);
 
     List<StaticLangApiMessageView> properties = new LinkedList<>();
+    Method discoMethod = ((DiscoveryMethodModel) method).getDiscoMethod();
 
     // Add the standard query parameters.
     for (String param : STANDARD_QUERY_PARAMS.keySet()) {
@@ -234,6 +239,15 @@ public class JavaDiscoGapicRequestToViewTransformer
               .getDiscoGapicNamer()
               .getResourceSetterName(
                   param, SurfaceNamer.Cardinality.NOT_REPEATED, context.getNamer()));
+      if (param.equals(FIELDS_PARAM)) {
+        paramView.fieldSelectorTypeName(getFieldSelectorTypeName(context, discoMethod));
+        // A selection without the next page token would end a paged response after one page.
+        MethodConfig methodConfig = context.getDocContext().getMethodConfig(method);
+        if (methodConfig.isPageStreaming()) {
+          paramView.pageTokenFieldName(
+              methodConfig.getPageStreaming().getResponseTokenField().getSimpleName());
+        }
+      }
       paramView.properties(Collections.emptyList());
       properties.add(paramView.build());
     }
@@ -252,7 +266,6 @@ public class JavaDiscoGapicRequestToViewTransformer
     }
 
     StaticLangApiMessageView.Builder paramView = StaticLangApiMessageView.newBuilder();
-    Method discoMethod = ((DiscoveryMethodModel) method).getDiscoMethod();
     String resourceName = DiscoGapicParser.getResourceIdentifier(discoMethod.path()).toLowerCamel();
     StringBuilder description =
         new StringBuilder(discoMethod.parameters().get(resourceName).description());
@@ -299,6 +312,20 @@ public class JavaDiscoGapicRequestToViewTransformer
     return requestView.build();
   }
 
+  /**
+   * Returns the type name of the selector of the fields of the response of the given method, e.g.
+   * "Address.FieldSelector", or null if the method has no response message.
+   */
+  private static String getFieldSelectorTypeName(
+      SchemaTransformationContext context, Method discoMethod) {
+    Schema responseDef = discoMethod.response();
+    if (responseDef == null || Strings.isNullOrEmpty(responseDef.reference())) {
+      return null;
+    }
+    FieldModel response = DiscoveryField.create(responseDef, context.getDocContext().getApiModel());
+    return context.getSchemaTypeTable().getAndSaveNicknameFor(response) + ".FieldSelector";
+  }
+
   // Transforms a request/response Schema object into a StaticLangApiMessageView.
   private StaticLangApiMessageView schemaToParamView(
       SchemaTransformationContext context,
@@ -41,6 +41,7 @@ import com.google.api.codegen.util.Name;
 import com.google.api.codegen.util.SymbolTable;
 import com.google.api.codegen.util.java.JavaNameFormatter;
 import com.google.api.codegen.util.java.JavaTypeTable;
+import com.google.api.codegen.viewmodel.ResourceNamePathSegmentView;
 import com.google.api.codegen.viewmodel.StaticLangApiResourceNameFileView;
 import com.google.api.codegen.viewmodel.StaticLangApiResourceNameView;
 import com.google.api.codegen.viewmodel.StaticLangMemberView;
@@ -119,9 +120,11 @@ public class JavaDiscoGapicResourceNameToViewTransformer
           continue;
         }
         Method method = namePatternsToMethod.get(namePattern);
+        // The imports of a resource name file depend on its path template.
+        SchemaTransformationContext fileContext = requestContext.withNewTypeTable();
         StaticLangApiResourceNameView resourceNameView =
-            generateResourceNameClass(requestContext, method, nameConfig);
-        surfaceRequests.add(generateResourceNameFile(requestContext, resourceNameView));
+            generateResourceNameClass(fileContext, method, nameConfig);
+        surfaceRequests.add(generateResourceNameFile(fileContext, resourceNameView));
 
         namePatterns.add(nameConfig.getNamePattern());
       }
@@ -144,7 +147,7 @@ public class JavaDiscoGapicResourceNameToViewTransformer
     StaticLangApiResourceNameFileView.Builder apiFile =
         StaticLangApiResourceNameFileView.newBuilder();
     apiFile.templateFileName(RESOURCE_NAME_TEMPLATE_FILENAME);
-    addResourceNameClassImports(context.getImportTypeTable());
+    addResourceNameClassImports(context.getImportTypeTable(), messageView);
     apiFile.resourceName(messageView);
 
     String outputPath = pathMapper.getOutputPath(null, context.getDocContext().getProductConfig());
@@ -177,10 +180,76 @@ public class JavaDiscoGapicResourceNameToViewTransformer
     }
     Collections.sort(properties);
     resourceNameView.pathParams(properties);
+    resourceNameView.pathSegments(generatePathSegments(nameConfig.getNamePattern(), properties));
 
     return resourceNameView.build();
   }
 
+  /**
+   * Splits the given path template into literal text and variables, from which specialized parse
+   * and format functions are generated. Returns an empty list if the template has wildcards or
+   * variables that do not end at a '/', or its variables are not the given path params; such
+   * templates are parsed and formatted with a PathTemplate.
+   */
+  private static List<ResourceNamePathSegmentView> generatePathSegments(
+      String pathTemplate, List<StaticLangMemberView> pathParams) {
+    Map<String, StaticLangMemberView> paramsByName = new HashMap<>();
+    for (StaticLangMemberView param : pathParams) {
+      paramsByName.put(param.name(), param);
+    }
+
+    List<ResourceNamePathSegmentView.Builder> segments = new ArrayList<>();
+    Set<String> variableNames = new HashSet<>();
+    boolean afterVariable = false;
+    int pos = 0;
+    while (pos < pathTemplate.length()) {
+      int variableStart = pathTemplate.indexOf('{', pos);
+      if (variableStart != pos) {
+        String literal =
+            pathTemplate.substring(pos, variableStart < 0 ? pathTemplate.length() : variableStart);
+        // A variable is matched up to the next '/', so the literal text after it must start there.
+        if (!isPlainLiteral(literal) || (afterVariable && !literal.startsWith("/"))) {
+          return Collections.emptyList();
+        }
+        segments.add(ResourceNamePathSegmentView.newBuilder().text(literal).isVariable(false));
+        afterVariable = false;
+        pos += literal.length();
+        continue;
+      }
+
+      int variableEnd = pathTemplate.indexOf('}', variableStart);
+      if (variableEnd < 0) {
+        return Collections.emptyList();
+      }
+      String name = pathTemplate.substring(variableStart + 1, variableEnd);
+      StaticLangMemberView param = paramsByName.get(name);
+      if (param == null || afterVariable || !variableNames.add(name)) {
+        return Collections.emptyList();
+      }
+      segments.add(
+          ResourceNamePathSegmentView.newBuilder()
+              .text(name)
+              .isVariable(true)
+              .variableIndex(variableNames.size() - 1)
+              .fieldSetFunction(param.fieldSetFunction()));
+      afterVariable = true;
+      pos = variableEnd + 1;
+    }
+    if (variableNames.size() != pathParams.size()) {
+      return Collections.emptyList();
+    }
+
+    List<ResourceNamePathSegmentView> segmentViews = new ArrayList<>();
+    for (int i = 0; i < segments.size(); i++) {
+      segmentViews.add(segments.get(i).isLast(i == segments.size() - 1).build());
+    }
+    return segmentViews;
+  }
+
+  private static boolean isPlainLiteral(String literal) {
+    return literal.chars().noneMatch(c -> "*}=\"\\".indexOf(c) >= 0);
+  }
+
   // Transforms a request/response Schema object into a StaticLangApiResourceNameView.
   private StaticLangMemberView schemaToParamView(
       SchemaTransformationContext context, Schema schema, SymbolTable symbolTable) {
@@ -203,11 +272,17 @@ public class JavaDiscoGapicResourceNameToViewTransformer
     return paramView.build();
   }
 
-  private void addResourceNameClassImports(ImportTypeTable typeTable) {
+  private void addResourceNameClassImports(
+      ImportTypeTable typeTable, StaticLangApiResourceNameView messageView) {
     typeTable.getAndSaveNicknameFor("com.google.api.core.BetaApi");
     typeTable.getAndSaveNicknameFor("com.google.common.base.Preconditions");
     typeTable.getAndSaveNicknameFor("com.google.common.collect.ImmutableMap");
-    typeTable.getAndSaveNicknameFor("com.google.api.pathtemplate.PathTemplate");
+    // Resource names with path segments are parsed and formatted without a PathTemplate.
+    if (messageView.hasPathSegments()) {
+      typeTable.getAndSaveNicknameFor("com.google.api.pathtemplate.ValidationException");
+    } else {
+      typeTable.getAndSaveNicknameFor("com.google.api.pathtemplate.PathTemplate");
+    }
     typeTable.getAndSaveNicknameFor("com.google.api.resourcenames.ResourceName");
     typeTable.getAndSaveNicknameFor("com.google.api.resourcenames.ResourceNameFactory");
     typeTable.getAndSaveNicknameFor("java.io.IOException");
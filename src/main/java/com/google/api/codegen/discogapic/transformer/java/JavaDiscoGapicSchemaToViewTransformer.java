@@ -21,6 +21,7 @@ import com.google.api.codegen.config.DiscoveryField;
 import com.google.api.codegen.config.GapicProductConfig;
 import com.google.api.codegen.discogapic.SchemaTransformationContext;
 import com.google.api.codegen.discovery.Schema;
+import com.google.api.codegen.discovery.Schema.Format;
 import com.google.api.codegen.discovery.Schema.Type;
 import com.google.api.codegen.gapic.GapicCodePathMapper;
 import com.google.api.codegen.transformer.DiscoGapicInterfaceContext;
@@ -194,6 +195,19 @@ public class JavaDiscoGapicSchemaToViewTransformer
     schemaView.properties(viewProperties);
 
     schemaView.canRepeat(schema.repeated() || schema.type().equals(Type.ARRAY));
+    schemaView.isMap(schema.isMap());
+    if (schema.isMap()) {
+      schemaView.mapValueTypeName(
+          schemaTypeTable
+              .getTypeNameConverter()
+              .getTypeName(schemaModel)
+              .getInnerTypeNames()
+              .get(1)
+              .getNickname());
+    }
+    schemaView.jsonKind(getJsonKind(schema));
+    schemaView.hasJsonCodec(true);
+    schemaView.hasFieldSelector(true);
     schemaView.isRequired(schema.required());
     schemaView.hasRequiredProperties(hasRequiredProperties);
 
@@ -206,11 +220,47 @@ public class JavaDiscoGapicSchemaToViewTransformer
     return messageView;
   }
 
+  /**
+   * Returns the kind of JSON value of the given schema, or of its elements if it is an array or a
+   * map, matching the Java type that the schema is rendered as.
+   */
+  private static String getJsonKind(Schema schema) {
+    Schema elementSchema = schema;
+    if (schema.isMap()) {
+      elementSchema = schema.additionalProperties();
+    } else if (schema.type() == Type.ARRAY) {
+      elementSchema = schema.dereference().items();
+    }
+    switch (elementSchema.type()) {
+      case INTEGER:
+        return "Integer";
+      case NUMBER:
+        return elementSchema.format() == Format.FLOAT ? "Float" : "Double";
+      case BOOLEAN:
+        return "Boolean";
+      case STRING:
+        return "String";
+      default:
+        return "Message";
+    }
+  }
+
   private void addApiImports(ImportTypeTable typeTable) {
     typeTable.getAndSaveNicknameFor("com.google.api.core.BetaApi");
     typeTable.getAndSaveNicknameFor("com.google.api.gax.httpjson.ApiMessage");
+    typeTable.getAndSaveNicknameFor("com.google.api.gax.httpjson.HttpResponseParser");
     typeTable.getAndSaveNicknameFor("com.google.common.collect.ImmutableList");
     typeTable.getAndSaveNicknameFor("com.google.common.collect.ImmutableMap");
+    typeTable.getAndSaveNicknameFor("com.google.gson.stream.JsonReader");
+    typeTable.getAndSaveNicknameFor("com.google.gson.stream.JsonToken");
+    typeTable.getAndSaveNicknameFor("com.google.gson.stream.JsonWriter");
+    typeTable.getAndSaveNicknameFor("java.io.IOException");
+    typeTable.getAndSaveNicknameFor("java.io.InputStream");
+    typeTable.getAndSaveNicknameFor("java.io.InputStreamReader");
+    typeTable.getAndSaveNicknameFor("java.io.StringWriter");
+    typeTable.getAndSaveNicknameFor("java.io.UncheckedIOException");
+    typeTable.getAndSaveNicknameFor("java.nio.charset.StandardCharsets");
+    typeTable.getAndSaveNicknameFor("java.util.ArrayList");
     typeTable.getAndSaveNicknameFor("java.util.Collections");
     typeTable.getAndSaveNicknameFor("java.util.HashMap");
     typeTable.getAndSaveNicknameFor("java.util.LinkedList");
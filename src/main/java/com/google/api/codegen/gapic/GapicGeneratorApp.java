@@ -25,7 +25,10 @@ import com.google.api.codegen.config.DependenciesConfig;
 import com.google.api.codegen.config.GapicProductConfig;
 import com.google.api.codegen.config.PackageMetadataConfig;
 import com.google.api.codegen.config.PackagingConfig;
+import com.google.api.codegen.util.ContentAddressedFileWriter;
 import com.google.api.codegen.util.MultiYamlReader;
+import com.google.api.codegen.util.YamlConfigCache;
+import com.google.api.codegen.util.java.JavaSourceFormatter;
 import com.google.api.tools.framework.model.ConfigSource;
 import com.google.api.tools.framework.model.Diag;
 import com.google.api.tools.framework.model.SimpleLocation;
@@ -45,6 +48,7 @@ import com.google.protobuf.ExtensionRegistry;
 import com.google.protobuf.Message;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -99,6 +103,29 @@ public class GapicGeneratorApp extends ToolDriverBase {
           "Whether to generate samples in non-production-ready languages.",
           false);
 
+  public static final Option<Boolean> FORMAT_OUTPUT =
+      ToolOptions.createOption(
+          Boolean.class,
+          "format_output",
+          "Whether to format generated Java files with google-java-format.",
+          false);
+
+  public static final Option<String> CONFIG_CACHE_DIR =
+      ToolOptions.createOption(
+          String.class,
+          "config_cache_dir",
+          "The directory caching the protos that the YAML config files are converted to.",
+          "");
+
+  public static final Option<String> CONTENT_STORE_DIR =
+      ToolOptions.createOption(
+          String.class,
+          "content_store_dir",
+          "A directory storing each distinct generated file once. If set, the generated files are "
+              + "read-only hard links into this directory, and must be replaced rather than "
+              + "modified in place.",
+          "");
+
   private ArtifactType artifactType;
 
   /** Constructs a code generator api based on given options. */
@@ -193,20 +220,34 @@ public class GapicGeneratorApp extends ToolDriverBase {
         }
       }
     }
-    writeCodeGenOutput(outputFiles.build(), outputPath);
+    Map<String, ?> outputFileBodies = outputFiles.build();
+    if (options.get(FORMAT_OUTPUT)) {
+      outputFileBodies = new JavaSourceFormatter().formatJavaDocs(outputFileBodies);
+    }
+    String contentStoreDir = options.get(CONTENT_STORE_DIR);
+    if (!Strings.isNullOrEmpty(contentStoreDir) && !isJarPath(outputPath)) {
+      new ContentAddressedFileWriter(Paths.get(contentStoreDir))
+          .writeFiles(outputFileBodies, outputPath, executables.build());
+    } else {
+      writeCodeGenOutput(outputFileBodies, outputPath);
+    }
     setOutputFilesPermissions(executables.build(), outputPath);
   }
 
   @VisibleForTesting
   void writeCodeGenOutput(Map<String, ?> outputFiles, String outputPath) throws IOException {
     // TODO: Support zip output.
-    if (outputPath.endsWith(".jar") || outputPath.endsWith(".srcjar")) {
+    if (isJarPath(outputPath)) {
       ToolUtil.writeJar(outputFiles, outputPath);
     } else {
       ToolUtil.writeFiles(outputFiles, outputPath);
     }
   }
 
+  private static boolean isJarPath(String outputPath) {
+    return outputPath.endsWith(".jar") || outputPath.endsWith(".srcjar");
+  }
+
   @VisibleForTesting
   void setOutputFilesPermissions(Set<String> executables, String outputPath) {
     if (outputPath.endsWith(".jar")) {
@@ -231,8 +272,16 @@ public class GapicGeneratorApp extends ToolDriverBase {
     ImmutableMap<String, Message> supportedConfigTypes =
         ImmutableMap.of(
             ConfigProto.getDescriptor().getFullName(), ConfigProto.getDefaultInstance());
+    String configCacheDir = options.get(CONFIG_CACHE_DIR);
+    YamlConfigCache configCache =
+        Strings.isNullOrEmpty(configCacheDir)
+            ? null
+            : new YamlConfigCache(Paths.get(configCacheDir));
     return MultiYamlReader.read(
-        model.getDiagReporter().getDiagCollector(), configFiles, supportedConfigTypes);
+        model.getDiagReporter().getDiagCollector(),
+        configFiles,
+        supportedConfigTypes,
+        configCache);
   }
 
   private List<File> pathsToFiles(List<String> configFileNames) {
@@ -111,9 +111,50 @@ public class GapicGeneratorFactory {
       ArtifactFlags artifactFlags,
       boolean devSamples) {
 
-    ArrayList<CodeGenerator<?>> generators = new ArrayList<>();
+    List<CodeGenerator<?>> generators = new ArrayList<>();
+    // Each language creates its generators in its own class, so that only the classes of the
+    // requested language are loaded.
     // Please keep the following IDs in alphabetical order
     if (language.equals(CSHARP)) {
+      CSharpGenerators.add(
+          generators, model, productConfig, packageConfig, artifactFlags, devSamples);
+    } else if (language.equals(GO)) {
+      GoGenerators.add(generators, model, productConfig, packageConfig, artifactFlags, devSamples);
+    } else if (language.equals(JAVA)) {
+      JavaGenerators.add(
+          generators, model, productConfig, packageConfig, artifactFlags, devSamples);
+      return generators;
+    } else if (language.equals(NODEJS)) {
+      NodeJSGenerators.add(
+          generators, model, productConfig, packageConfig, artifactFlags, devSamples);
+    } else if (language.equals(PHP)) {
+      PhpGenerators.add(generators, model, productConfig, packageConfig, artifactFlags, devSamples);
+    } else if (language.equals(PYTHON)) {
+      PythonGenerators.add(
+          generators, model, productConfig, packageConfig, artifactFlags, devSamples);
+    } else if (language.equals(RUBY)) {
+      RubyGenerators.add(
+          generators, model, productConfig, packageConfig, artifactFlags, devSamples);
+    } else {
+      throw new UnsupportedOperationException(
+          "GapicGeneratorFactory: unsupported language \"" + language + "\"");
+    }
+
+    if (generators.isEmpty()) {
+      throw new IllegalArgumentException("No artifacts are enabled.");
+    }
+    return generators;
+  }
+
+  /** Creates the C# generators. */
+  private static class CSharpGenerators {
+    static void add(
+        List<CodeGenerator<?>> generators,
+        Model model,
+        GapicProductConfig productConfig,
+        PackageMetadataConfig packageConfig,
+        ArtifactFlags artifactFlags,
+        boolean devSamples) {
       String packageName = productConfig.getPackageName();
 
       Function<String, GapicCodePathMapper> newCodePathMapper =
@@ -182,8 +223,18 @@ public class GapicGeneratorFactory {
                   CSharpBasicPackageTransformer.forUnitTests(unitTestPathMapper)));
         }
       }
+    }
+  }
 
-    } else if (language.equals(GO)) {
+  /** Creates the Go generators. */
+  private static class GoGenerators {
+    static void add(
+        List<CodeGenerator<?>> generators,
+        Model model,
+        GapicProductConfig productConfig,
+        PackageMetadataConfig packageConfig,
+        ArtifactFlags artifactFlags,
+        boolean devSamples) {
       if (artifactFlags.surfaceGeneratorEnabled()) {
         CodeGenerator generator =
             GapicGenerator.newBuilder()
@@ -205,8 +256,18 @@ public class GapicGeneratorFactory {
                 .build();
         generators.add(testGenerator);
       }
+    }
+  }
 
-    } else if (language.equals(JAVA)) {
+  /** Creates the Java generators. */
+  private static class JavaGenerators {
+    static void add(
+        List<CodeGenerator<?>> generators,
+        Model model,
+        GapicProductConfig productConfig,
+        PackageMetadataConfig packageConfig,
+        ArtifactFlags artifactFlags,
+        boolean devSamples) {
       Function<ModelToViewTransformer<ProtoApiModel>, CodeGenerator> newJavaGenerator =
           transformer ->
               GapicGenerator.newBuilder()
@@ -267,9 +328,18 @@ public class GapicGeneratorFactory {
                       "java/grpc_test.snip")));
         }
       }
-      return generators;
+    }
+  }
 
-    } else if (language.equals(NODEJS)) {
+  /** Creates the Node.js generators. */
+  private static class NodeJSGenerators {
+    static void add(
+        List<CodeGenerator<?>> generators,
+        Model model,
+        GapicProductConfig productConfig,
+        PackageMetadataConfig packageConfig,
+        ArtifactFlags artifactFlags,
+        boolean devSamples) {
       if (artifactFlags.surfaceGeneratorEnabled()) {
         GapicCodePathMapper nodeJSPathMapper = new NodeJSCodePathMapper();
         CodeGenerator mainGenerator =
@@ -334,8 +404,18 @@ public class GapicGeneratorFactory {
                 .build();
         generators.add(testGenerator);
       }
+    }
+  }
 
-    } else if (language.equals(PHP)) {
+  /** Creates the PHP generators. */
+  private static class PhpGenerators {
+    static void add(
+        List<CodeGenerator<?>> generators,
+        Model model,
+        GapicProductConfig productConfig,
+        PackageMetadataConfig packageConfig,
+        ArtifactFlags artifactFlags,
+        boolean devSamples) {
       if (artifactFlags.surfaceGeneratorEnabled()) {
         GapicCodePathMapper phpPathMapper =
             PhpGapicCodePathMapper.newBuilder().setPrefix("src").build();
@@ -394,7 +474,18 @@ public class GapicGeneratorFactory {
                 .build();
         generators.add(testGenerator);
       }
-    } else if (language.equals(PYTHON)) {
+    }
+  }
+
+  /** Creates the Python generators. */
+  private static class PythonGenerators {
+    static void add(
+        List<CodeGenerator<?>> generators,
+        Model model,
+        GapicProductConfig productConfig,
+        PackageMetadataConfig packageConfig,
+        ArtifactFlags artifactFlags,
+        boolean devSamples) {
       if (artifactFlags.surfaceGeneratorEnabled()) {
         GapicCodePathMapper pythonPathMapper =
             CommonGapicCodePathMapper.newBuilder().setShouldAppendPackage(true).build();
@@ -453,8 +544,18 @@ public class GapicGeneratorFactory {
                 .build();
         generators.add(testGenerator);
       }
+    }
+  }
 
-    } else if (language.equals(RUBY)) {
+  /** Creates the Ruby generators. */
+  private static class RubyGenerators {
+    static void add(
+        List<CodeGenerator<?>> generators,
+        Model model,
+        GapicProductConfig productConfig,
+        PackageMetadataConfig packageConfig,
+        ArtifactFlags artifactFlags,
+        boolean devSamples) {
       if (artifactFlags.surfaceGeneratorEnabled()) {
         GapicCodePathMapper rubyPathMapper =
             CommonGapicCodePathMapper.newBuilder()
@@ -519,14 +620,6 @@ public class GapicGeneratorFactory {
                 .build();
         generators.add(testGenerator);
       }
-    } else {
-      throw new UnsupportedOperationException(
-          "GapicGeneratorFactory: unsupported language \"" + language + "\"");
     }
-
-    if (generators.isEmpty()) {
-      throw new IllegalArgumentException("No artifacts are enabled.");
-    }
-    return generators;
   }
 }
@@ -0,0 +1,36 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.packagegen;
+
+/** How the package generator transfers source files from the input to the output directory. */
+public enum CopyStrategy {
+  /** Copies every file one at a time, replacing existing destination files. */
+  COPY,
+
+  /**
+   * Skips destination files whose size and contents already match the source, and hard-links the
+   * rest where the file system allows it. Files that cannot be linked are copied. Files are
+   * transferred in parallel. Generated files replace any links at their paths rather than being
+   * written through them, so the input files are never changed.
+   */
+  LINK;
+
+  public static CopyStrategy of(String copyStrategyString) {
+    if (copyStrategyString == null) {
+      return COPY;
+    }
+    return CopyStrategy.valueOf(copyStrategyString.toUpperCase());
+  }
+}
@@ -33,6 +33,8 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Map;
 
 /** ToolDriver for gRPC meta-data generation. */
@@ -68,6 +70,12 @@ public class PackageGeneratorApp extends ToolDriverBase {
           "artifact_type",
           "The artifacts to be generated by the metadata generator.",
           null);
+  public static final Option<CopyStrategy> COPY_STRATEGY =
+      ToolOptions.createOption(
+          CopyStrategy.class,
+          "copy_strategy",
+          "How source files are transferred from the input to the output directory.",
+          CopyStrategy.COPY);
 
   private URL dependenciesYamlUrl;
 
@@ -91,7 +99,15 @@ public class PackageGeneratorApp extends ToolDriverBase {
       return;
     }
     Map<String, GeneratedResult<Doc>> results = generate(model);
-    ToolUtil.writeFiles(GeneratedResult.extractBodies(results), options.get(OUTPUT_DIR));
+    Map<String, Doc> outputFiles = GeneratedResult.extractBodies(results);
+    if (options.get(COPY_STRATEGY) == CopyStrategy.LINK) {
+      // Source files may have been linked to the paths of generated files. Writing through those
+      // links would change the input files, so they are removed first.
+      for (String outputFile : outputFiles.keySet()) {
+        Files.deleteIfExists(Paths.get(options.get(OUTPUT_DIR), outputFile));
+      }
+    }
+    ToolUtil.writeFiles(outputFiles, options.get(OUTPUT_DIR));
   }
 
   protected Map<String, GeneratedResult<Doc>> generate(Model model) throws IOException {
@@ -16,12 +16,16 @@ package com.google.api.codegen.packagegen.py;
 
 import com.google.api.codegen.common.GeneratedResult;
 import com.google.api.codegen.config.PackageMetadataConfig;
+import com.google.api.codegen.packagegen.CopyStrategy;
 import com.google.api.codegen.packagegen.PackageGeneratorApp;
 import com.google.api.tools.framework.snippet.Doc;
 import com.google.api.tools.framework.tools.ToolOptions;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.io.MoreFiles;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystemException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -30,7 +34,9 @@ import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /** A copier specialized to calculate Python namespace packages and generate __init__.py files. */
 public class PythonPackageCopier {
@@ -39,27 +45,37 @@ public class PythonPackageCopier {
   private class PythonPackageFileVisitor extends SimpleFileVisitor<Path> {
     ImmutableMap.Builder<String, GeneratedResult<Doc>> docBuilder = new ImmutableMap.Builder<>();
     List<String> pythonNamespacePackages = new ArrayList<>();
+    Map<Path, Path> pendingFiles = new LinkedHashMap<>();
     Path inputPath;
     Path outputPath;
     String apiVersion;
+    CopyStrategy copyStrategy;
 
     /**
      * Constructor.
      *
      * @param inputPath The path to the (unprocessed) gRPC source code.
      * @param apiVersion The major version of the API.
+     * @param copyStrategy How the gRPC source files are transferred to outputPath.
      */
-    public PythonPackageFileVisitor(Path inputPath, Path outputPath, String apiVersion) {
+    public PythonPackageFileVisitor(
+        Path inputPath, Path outputPath, String apiVersion, CopyStrategy copyStrategy) {
       this.inputPath = inputPath;
       this.outputPath = outputPath;
       this.apiVersion = apiVersion;
+      this.copyStrategy = copyStrategy;
     }
 
     @Override
     public FileVisitResult visitFile(Path file, BasicFileAttributes attr) throws IOException {
       Path destination = outputPath.resolve(inputPath.relativize(file));
       Files.createDirectories(destination.getParent());
-      Files.copy(file, destination, StandardCopyOption.REPLACE_EXISTING);
+      if (copyStrategy == CopyStrategy.LINK) {
+        // Transferred in parallel once the whole tree has been visited.
+        pendingFiles.put(file, destination);
+      } else {
+        Files.copy(file, destination, StandardCopyOption.REPLACE_EXISTING);
+      }
       return FileVisitResult.CONTINUE;
     }
 
@@ -93,6 +109,51 @@ public class PythonPackageCopier {
     public ImmutableMap.Builder<String, GeneratedResult<Doc>> getDocBuilder() {
       return docBuilder;
     }
+
+    /** Returns the files left to transfer, keyed by source path. */
+    public Map<Path, Path> getPendingFiles() {
+      return pendingFiles;
+    }
+  }
+
+  /** Links or copies all the given files in parallel, skipping those already up to date. */
+  private static void linkFiles(Map<Path, Path> files) throws IOException {
+    try {
+      files
+          .entrySet()
+          .parallelStream()
+          .forEach(
+              entry -> {
+                try {
+                  linkFile(entry.getKey(), entry.getValue());
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static void linkFile(Path source, Path destination) throws IOException {
+    if (Files.exists(destination)) {
+      if (Files.isSameFile(source, destination) || hasSameContents(source, destination)) {
+        return;
+      }
+      Files.delete(destination);
+    }
+
+    try {
+      Files.createLink(destination, source);
+    } catch (UnsupportedOperationException | FileSystemException e) {
+      // Hard links are not supported, or source and destination are on different file systems.
+      Files.copy(source, destination, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static boolean hasSameContents(Path source, Path destination) throws IOException {
+    return Files.size(source) == Files.size(destination)
+        && MoreFiles.asByteSource(source).contentEquals(MoreFiles.asByteSource(destination));
   }
 
   @SuppressWarnings("unchecked")
@@ -104,9 +165,11 @@ public class PythonPackageCopier {
         new PythonPackageFileVisitor(
             Paths.get(options.get(PackageGeneratorApp.INPUT_DIR)),
             Paths.get(options.get(PackageGeneratorApp.OUTPUT_DIR)),
-            config.apiVersion());
+            config.apiVersion(),
+            options.get(PackageGeneratorApp.COPY_STRATEGY));
 
     Files.walkFileTree(Paths.get(options.get(PackageGeneratorApp.INPUT_DIR)), visitor);
+    linkFiles(visitor.getPendingFiles());
 
     List<String> pythonNamespacePackages = visitor.getNamespacePackages();
     ImmutableMap.Builder<String, GeneratedResult<Doc>> docBuilder = visitor.getDocBuilder();
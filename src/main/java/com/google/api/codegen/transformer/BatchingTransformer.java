@@ -19,10 +19,13 @@ import com.google.api.codegen.config.FieldModel;
 import com.google.api.codegen.config.GenericFieldSelector;
 import com.google.api.codegen.config.MethodConfig;
 import com.google.api.codegen.config.MethodModel;
+import com.google.api.codegen.config.TypeModel;
+import com.google.api.codegen.viewmodel.BatcherClassView;
 import com.google.api.codegen.viewmodel.BatchingConfigView;
 import com.google.api.codegen.viewmodel.BatchingDescriptorClassView;
 import com.google.api.codegen.viewmodel.BatchingDescriptorView;
 import com.google.api.codegen.viewmodel.BatchingPartitionKeyView;
+import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
 import java.util.ArrayList;
 import java.util.List;
@@ -36,6 +39,7 @@ public class BatchingTransformer {
       BatchingConfig batching = context.getMethodConfig(method).getBatching();
       BatchingDescriptorView.Builder descriptor = BatchingDescriptorView.newBuilder();
       descriptor.methodName(context.getNamer().getMethodKey(method));
+      descriptor.grpcMethodName(namer.getGrpcMethodName(method));
       descriptor.batchedFieldName(namer.getFieldName(batching.getBatchedField()));
       descriptor.discriminatorFieldNames(generateDiscriminatorFieldNames(batching));
 
@@ -67,12 +71,22 @@ public class BatchingTransformer {
     return descriptors;
   }
 
+  public List<BatcherClassView> generateBatcherClasses(InterfaceContext context) {
+    ImmutableList.Builder<BatcherClassView> batchers = ImmutableList.builder();
+    for (MethodModel method : context.getBatchingMethods()) {
+      batchers.add(generateBatcherClass(context.asRequestMethodContext(method)));
+    }
+    return batchers.build();
+  }
+
   public BatchingConfigView generateBatchingConfig(MethodContext context) {
     BatchingConfig batchingConfig = context.getMethodConfig().getBatching();
     BatchingConfigView.Builder batchingConfigView = BatchingConfigView.newBuilder();
 
     batchingConfigView.elementCountThreshold(batchingConfig.getElementCountThreshold());
+    batchingConfigView.elementCountLimit(batchingConfig.getElementCountLimit());
     batchingConfigView.requestByteThreshold(batchingConfig.getRequestByteThreshold());
+    batchingConfigView.requestByteLimit(batchingConfig.getRequestByteLimit());
     batchingConfigView.delayThresholdMillis(batchingConfig.getDelayThresholdMillis());
     batchingConfigView.flowControlElementLimit(batchingConfig.getFlowControlElementLimit());
     batchingConfigView.flowControlByteLimit(batchingConfig.getFlowControlByteLimit());
@@ -122,6 +136,44 @@ public class BatchingTransformer {
     return desc.build();
   }
 
+  private BatcherClassView generateBatcherClass(MethodContext context) {
+    SurfaceNamer namer = context.getNamer();
+    ImportTypeTable typeTable = context.getTypeTable();
+    MethodModel method = context.getMethodModel();
+    BatchingConfig batching = context.getMethodConfig().getBatching();
+    FieldModel batchedField = batching.getBatchedField();
+
+    BatcherClassView.Builder batcher = BatcherClassView.newBuilder();
+    batcher.typeName(namer.getBatcherClassName(method));
+    batcher.constructorName(namer.getBatcherConstructorName(method));
+    batcher.resultTypeName(namer.getBatchResultClassName(method));
+    batcher.itemTypeName(namer.getBatchItemClassName(method));
+    batcher.methodName(namer.getApiMethodName(method, context.getMethodConfig().getVisibility()));
+    batcher.grpcMethodName(namer.getGrpcMethodName(method));
+    batcher.requestTypeName(method.getAndSaveRequestTypeName(typeTable, namer));
+    if (!method.isOutputTypeEmpty()) {
+      batcher.responseTypeName(method.getAndSaveResponseTypeName(typeTable, namer));
+    }
+
+    batcher.batchedFieldName(namer.getFieldGetFunctionName(batchedField));
+    batcher.batchedFieldSetFunction(namer.getFieldSetFunctionName(batchedField));
+    batcher.batchedFieldDocName(batchedField.getSimpleName());
+    batcher.batchedElementTypeName(typeTable.getAndSaveNicknameForElementType(batchedField));
+    batcher.byteLengthFunctionName(namer.getByteLengthFunctionName(batchedField));
+    if (batching.hasSubresponseField()) {
+      FieldModel subresponseField = batching.getSubresponseField();
+      batcher.subresponseFieldName(namer.getFieldGetFunctionName(subresponseField));
+      batcher.subresponseSetFunction(namer.getFieldSetFunctionName(subresponseField));
+      batcher.subresponseElementTypeName(
+          typeTable.getAndSaveNicknameForElementType(subresponseField));
+    }
+
+    batcher.discriminatorFieldNames(generateDiscriminatorFieldNames(batching));
+    batcher.partitionKeys(generatePartitionKeys(context));
+    batcher.batchingConfig(generateBatchingConfig(context));
+    return batcher.build();
+  }
+
   private List<BatchingPartitionKeyView> generatePartitionKeys(MethodContext context) {
     List<BatchingPartitionKeyView> keys = new ArrayList<>();
     BatchingConfig batching = context.getMethodConfig().getBatching();
@@ -130,9 +182,36 @@ public class BatchingTransformer {
       BatchingPartitionKeyView key =
           BatchingPartitionKeyView.newBuilder()
               .fieldGetFunction(context.getNamer().getFieldGetFunctionName(selectedType))
+              .gettersChain(generateGettersChain(context, fieldSelector))
               .build();
       keys.add(key);
     }
     return keys;
   }
+
+  private List<String> generateGettersChain(
+      MethodContext context, GenericFieldSelector fieldSelector) {
+    SurfaceNamer namer = context.getNamer();
+    List<String> fieldNames = Splitter.on('.').splitToList(fieldSelector.getParamName());
+    if (fieldNames.size() == 1) {
+      return ImmutableList.of(namer.getFieldGetFunctionName(fieldSelector.getLastField()));
+    }
+
+    ImmutableList.Builder<String> gettersChain = ImmutableList.builder();
+    TypeModel messageType = context.getMethodModel().getInputType();
+    for (String fieldName : fieldNames) {
+      FieldModel field = messageType.getField(fieldName);
+      if (field == null) {
+        throw new IllegalArgumentException(
+            "Unknown field name '"
+                + fieldName
+                + "' in discriminator field '"
+                + fieldSelector.getParamName()
+                + "'");
+      }
+      gettersChain.add(namer.getFieldGetFunctionName(field));
+      messageType = field.getType();
+    }
+    return gettersChain.build();
+  }
 }
@@ -19,14 +19,12 @@ import com.google.api.codegen.config.FlatteningConfig;
 import com.google.api.codegen.config.GapicInterfaceConfig;
 import com.google.api.codegen.config.GapicMethodConfig;
 import com.google.api.codegen.config.GapicProductConfig;
-import com.google.api.codegen.config.InterfaceConfig;
 import com.google.api.codegen.config.InterfaceModel;
 import com.google.api.codegen.config.MethodConfig;
 import com.google.api.codegen.config.MethodModel;
 import com.google.api.codegen.config.ProtoInterfaceModel;
 import com.google.api.codegen.config.ProtoMethodModel;
 import com.google.api.codegen.config.VisibilityConfig;
-import com.google.api.codegen.gapic.ProtoModels;
 import com.google.api.codegen.util.ProtoParser;
 import com.google.api.tools.framework.aspects.documentation.model.DocumentationUtil;
 import com.google.api.tools.framework.model.Interface;
@@ -36,7 +34,6 @@ import com.google.auto.value.AutoValue;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import javax.annotation.Nullable;
@@ -47,7 +44,6 @@ import javax.annotation.Nullable;
  */
 @AutoValue
 public abstract class GapicInterfaceContext implements InterfaceContext {
-  private ImmutableList<MethodModel> interfaceMethods;
   private ProtoParser protoParser = new ProtoParser();
 
   public static GapicInterfaceContext create(
@@ -73,26 +69,7 @@ public abstract class GapicInterfaceContext implements InterfaceContext {
         typeTable,
         namer,
         featureConfig,
-        createGrpcRerouteMap(protoInterface.getInterface().getModel(), productConfig));
-  }
-
-  private static Map<Interface, Interface> createGrpcRerouteMap(
-      Model model, GapicProductConfig productConfig) {
-    HashMap<Interface, Interface> grpcRerouteMap = new HashMap<>();
-    for (Interface apiInterface : ProtoModels.getInterfaces(model)) {
-      if (!apiInterface.isReachable()) {
-        continue;
-      }
-      InterfaceConfig interfaceConfig = productConfig.getInterfaceConfig(apiInterface);
-      for (MethodConfig methodConfig : interfaceConfig.getMethodConfigs()) {
-        String reroute = methodConfig.getRerouteToGrpcInterface();
-        if (!Strings.isNullOrEmpty(reroute)) {
-          Interface targetInterface = model.getSymbolTable().lookupInterface(reroute);
-          grpcRerouteMap.put(targetInterface, apiInterface);
-        }
-      }
-    }
-    return grpcRerouteMap;
+        productConfig.getProductIndex().getGrpcRerouteMap());
   }
 
   public Model getModel() {
@@ -158,18 +135,7 @@ public abstract class GapicInterfaceContext implements InterfaceContext {
    * <p>If the method is a gRPC re-route method, returns the MethodConfig of the original method.
    */
   public GapicMethodConfig getMethodConfig(MethodModel method) {
-    Interface originalInterface = getInterface();
-    if (getGrpcRerouteMap().containsKey(originalInterface)) {
-      originalInterface = getGrpcRerouteMap().get(originalInterface);
-    }
-    InterfaceConfig originalInterfaceConfig =
-        getProductConfig().getInterfaceConfig(originalInterface);
-    if (originalInterfaceConfig != null) {
-      return (GapicMethodConfig) originalInterfaceConfig.getMethodConfig(method);
-    } else {
-      throw new IllegalArgumentException(
-          "Interface config does not exist for method: " + method.getSimpleName());
-    }
+    return getProductConfig().getProductIndex().getMethodConfig(getInterface(), method);
   }
 
   @Override
@@ -224,19 +190,13 @@ public abstract class GapicInterfaceContext implements InterfaceContext {
     return methodBuilder.build();
   }
 
-  /** Returns a list of methods for this interface that have method configs. Memoize the result. */
+  /**
+   * Returns a list of methods for this interface that have method configs. The list is shared by
+   * all contexts created from the same product config.
+   */
   @Override
   public List<MethodModel> getInterfaceConfigMethods() {
-    if (interfaceMethods != null) {
-      return interfaceMethods;
-    }
-
-    ImmutableList.Builder<MethodModel> methodBuilder = ImmutableList.builder();
-    for (MethodConfig methodConfig : getInterfaceConfig().getMethodConfigs()) {
-      methodBuilder.add(new ProtoMethodModel(((GapicMethodConfig) methodConfig).getMethod()));
-    }
-    interfaceMethods = methodBuilder.build();
-    return interfaceMethods;
+    return getProductConfig().getProductIndex().getInterfaceConfigMethods(getInterfaceModel());
   }
 
   /** Returns a list of supported methods, configured by FeatureConfig. */
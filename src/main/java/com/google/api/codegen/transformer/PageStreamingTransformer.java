@@ -54,6 +54,7 @@ public class PageStreamingTransformer {
         context.getNamer().getFieldGetFunctionName(pageStreaming.getResourcesField()));
     descriptor.methodName(context.getNamer().getMethodKey(method));
     descriptor.transportMethodName(context.getNamer().getGrpcMethodName(method));
+    descriptor.prefetchPages(pageStreaming.getPrefetchPages());
     return descriptor.build();
   }
 
@@ -111,6 +112,7 @@ public class PageStreamingTransformer {
 
     desc.resourcesFieldGetFunction(namer.getFieldGetFunctionName(resourceField));
     desc.resourcesFieldIsMap(resourceField.isMap());
+    desc.prefetchPages(pageStreaming.getPrefetchPages());
 
     return desc.build();
   }
@@ -657,6 +657,7 @@ public class StaticLangApiMethodTransformer {
             .iterateMethodName(iterateMethodName)
             .resourceFieldName(resourceFieldName)
             .resourcesFieldGetFunction(resourceFieldGetterName)
+            .prefetchPages(pageStreaming.getPrefetchPages())
             .build());
 
     switch (synchronicity) {
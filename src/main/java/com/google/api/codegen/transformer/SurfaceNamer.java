@@ -1250,6 +1250,45 @@ public class SurfaceNamer extends NameFormatterDelegator {
     return keyName(Name.from(pageStreaming.getResourcesFieldName()));
   }
 
+  ///////////////////////////////////////// Batching //////////////////////////////////////////////
+
+  /** The name of the class that batches the requests of the given method. */
+  public String getBatcherClassName(MethodModel method) {
+    return publicClassName(Name.anyCamel(method.getSimpleName()).join("batcher"));
+  }
+
+  /** The name of the function that creates a batcher for the given method. */
+  public String getBatcherConstructorName(MethodModel method) {
+    return getNotImplementedString("SurfaceNamer.getBatcherConstructorName");
+  }
+
+  /** The name of the class holding the result of a request added to a batcher. */
+  public String getBatchResultClassName(MethodModel method) {
+    return publicClassName(Name.anyCamel(method.getSimpleName()).join("batch_result"));
+  }
+
+  /** The name of the class holding a single batched element of a request. */
+  public String getBatchItemClassName(MethodModel method) {
+    return privateClassName(Name.anyCamel(method.getSimpleName()).join("batch_item"));
+  }
+
+  ////////////////////////////////////// gRPC Streaming /////////////////////////////////////////
+
+  /** The name of the class wrapping a stream of the given streaming method. */
+  public String getStreamClassName(MethodModel method) {
+    return publicClassName(Name.anyCamel(method.getSimpleName()).join("stream"));
+  }
+
+  /** The name of the class holding the settings of a stream of the given streaming method. */
+  public String getStreamSettingsClassName(MethodModel method) {
+    return publicClassName(Name.anyCamel(method.getSimpleName()).join("stream_settings"));
+  }
+
+  /** The name of the function that opens a stream of the given streaming method. */
+  public String getStreamConstructorName(MethodModel method) {
+    return getNotImplementedString("SurfaceNamer.getStreamConstructorName");
+  }
+
   ///////////////////////////////////// Constant & Keyword ////////////////////////////////////////
 
   /** The name of the constant to hold the batching descriptor for the given method. */
@@ -261,6 +261,7 @@ public class CSharpGapicClientTransformer implements ModelToViewTransformer<Prot
 
     fileView.api(generateApiClass(context));
     fileView.settings(generateSettingsClass(context));
+    fileView.batchers(batchingTransformer.generateBatcherClasses(context));
 
     String outputPath =
         pathMapper.getOutputPath(context.getInterface().getFullName(), context.getProductConfig());
@@ -300,6 +300,26 @@ public class CSharpSurfaceNamer extends SurfaceNamer {
     return privateMethodName(Name.from(field.getSimpleName()));
   }
 
+  @Override
+  public String getBatcherConstructorName(MethodModel method) {
+    return publicMethodName(
+        Name.from("create").join(Name.anyCamel(method.getSimpleName())).join("batcher"));
+  }
+
+  @Override
+  public String getByteLengthFunctionName(FieldModel field) {
+    if (field.isMessage()) {
+      return "pb::CodedOutputStream.ComputeMessageSize";
+    } else if (field.isString()) {
+      return "pb::CodedOutputStream.ComputeStringSize";
+    } else if (field.isBytes()) {
+      return "pb::CodedOutputStream.ComputeBytesSize";
+    } else {
+      throw new IllegalArgumentException(
+          "Can't determine the byte length function for " + field.getKind());
+    }
+  }
+
   @Override
   public String getFieldGetFunctionName(FieldModel type, Name identifier) {
     return privateMethodName(Name.from(type.getSimpleName()));
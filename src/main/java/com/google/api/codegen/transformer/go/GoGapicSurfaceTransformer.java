@@ -16,6 +16,7 @@ package com.google.api.codegen.transformer.go;
 
 import com.google.api.codegen.RetryParamsDefinitionProto;
 import com.google.api.codegen.config.ApiModel;
+import com.google.api.codegen.config.ChannelPoolConfig;
 import com.google.api.codegen.config.GapicInterfaceConfig;
 import com.google.api.codegen.config.GapicProductConfig;
 import com.google.api.codegen.config.InterfaceConfig;
@@ -28,6 +29,7 @@ import com.google.api.codegen.config.ProtoApiModel;
 import com.google.api.codegen.config.ProtoInterfaceModel;
 import com.google.api.codegen.gapic.GapicCodePathMapper;
 import com.google.api.codegen.transformer.ApiCallableTransformer;
+import com.google.api.codegen.transformer.BatchingTransformer;
 import com.google.api.codegen.transformer.DefaultFeatureConfig;
 import com.google.api.codegen.transformer.FeatureConfig;
 import com.google.api.codegen.transformer.FileHeaderTransformer;
@@ -45,6 +47,8 @@ import com.google.api.codegen.transformer.StaticLangApiMethodTransformer;
 import com.google.api.codegen.transformer.SurfaceNamer;
 import com.google.api.codegen.util.CommonRenderingUtil;
 import com.google.api.codegen.util.go.GoTypeTable;
+import com.google.api.codegen.viewmodel.BatcherClassView;
+import com.google.api.codegen.viewmodel.GrpcStreamClassView;
 import com.google.api.codegen.viewmodel.ImportSectionView;
 import com.google.api.codegen.viewmodel.LongRunningOperationDetailView;
 import com.google.api.codegen.viewmodel.PackageInfoView;
@@ -80,6 +84,7 @@ public class GoGapicSurfaceTransformer implements ModelToViewTransformer<ProtoAp
   private static final int COMMENT_LINE_LENGTH = 75;
 
   private final ApiCallableTransformer apiCallableTransformer = new ApiCallableTransformer();
+  private final BatchingTransformer batchingTransformer = new BatchingTransformer();
   private final StaticLangApiMethodTransformer apiMethodTransformer =
       new StaticLangApiMethodTransformer();
   private final FeatureConfig featureConfig = new DefaultFeatureConfig();
@@ -160,11 +165,14 @@ public class GoGapicSurfaceTransformer implements ModelToViewTransformer<ProtoAp
     }
 
     // In Go, multiple methods share the same iterator type, one iterator type per resource type.
-    // We have to dedupe the iterators.
+    // We have to dedupe the iterators, keeping one that prefetches pages if any method does.
     Map<String, PageStreamingDescriptorClassView> iterators = new TreeMap<>();
     for (PageStreamingDescriptorClassView desc :
         pageStreamingTransformer.generateDescriptorClasses(context)) {
-      iterators.put(desc.typeName(), desc);
+      iterators.merge(
+          desc.typeName(),
+          desc,
+          (prev, next) -> prev.hasPrefetch() && !next.hasPrefetch() ? prev : next);
     }
     view.pageStreamingDescriptorClasses(new ArrayList<>(iterators.values()));
 
@@ -178,9 +186,34 @@ public class GoGapicSurfaceTransformer implements ModelToViewTransformer<ProtoAp
     }
     view.lroDetailViews(new ArrayList<>(lros.values()));
 
+    List<BatcherClassView> batchers = batchingTransformer.generateBatcherClasses(context);
+    view.batchers(batchers);
+    // Batchers partition requests by a canonical form of their outgoing metadata.
+    if (!batchers.isEmpty()) {
+      context.getImportTypeTable().saveNicknameFor("bytes;;;");
+      context.getImportTypeTable().saveNicknameFor("sort;;;");
+      context.getImportTypeTable().saveNicknameFor("strconv;;;");
+    }
+    // Batchers enforcing flow control limits use weighted semaphores.
+    if (batchers.stream().anyMatch(b -> b.batchingConfig().hasFlowControl())) {
+      context.getImportTypeTable().saveNicknameFor("golang.org/x/sync/semaphore;;;");
+    }
+
+    view.streams(generateStreamClasses(context, context.getSupportedMethods()));
+
     view.serviceHostname(productServiceConfig.getServiceHostname(context.getServiceAddress()));
     view.servicePort(productServiceConfig.getServicePort(context.getServiceAddress()));
 
+    ChannelPoolConfig channelPoolConfig = interfaceConfig.getChannelPoolConfig();
+    if (channelPoolConfig != null) {
+      view.sharesChannel(channelPoolConfig.isSharedAcrossClients());
+      view.channelPoolSize(channelPoolConfig.getPoolSize());
+      // The shared connections are dialed under a mutex.
+      if (channelPoolConfig.isSharedAcrossClients()) {
+        context.getImportTypeTable().saveNicknameFor("sync;;;");
+      }
+    }
+
     view.stubs(grpcStubTransformer.generateGrpcStubs(context));
 
     addXApiImports(context, context.getSupportedMethods());
@@ -272,6 +305,35 @@ public class GoGapicSurfaceTransformer implements ModelToViewTransformer<ProtoAp
     return apiMethods;
   }
 
+  private List<GrpcStreamClassView> generateStreamClasses(
+      InterfaceContext context, Iterable<MethodModel> methods) {
+    SurfaceNamer namer = context.getNamer();
+    ImmutableList.Builder<GrpcStreamClassView> streams = ImmutableList.builder();
+    for (MethodModel method : methods) {
+      // Server streams are read by the caller, so only streams of requests are wrapped.
+      if (!method.getRequestStreaming()) {
+        continue;
+      }
+      MethodContext methodContext = context.asRequestMethodContext(method);
+      MethodConfig methodConfig = methodContext.getMethodConfig();
+      ImportTypeTable typeTable = methodContext.getTypeTable();
+      GrpcStreamClassView.Builder stream = GrpcStreamClassView.newBuilder();
+      stream.typeName(namer.getStreamClassName(method));
+      stream.settingsTypeName(namer.getStreamSettingsClassName(method));
+      stream.constructorName(namer.getStreamConstructorName(method));
+      stream.methodName(namer.getGrpcStreamingApiMethodName(method, methodConfig.getVisibility()));
+      stream.stubName(namer.getStubName(methodContext.getTargetInterface()));
+      stream.grpcStreamTypeName(
+          typeTable.getAndSaveNicknameFor(
+              namer.getGrpcStreamingApiReturnTypeName(methodContext, typeTable)));
+      stream.requestTypeName(method.getAndSaveRequestTypeName(typeTable, namer));
+      stream.responseTypeName(method.getAndSaveResponseTypeName(typeTable, namer));
+      stream.grpcStreamingType(methodConfig.getGrpcStreamingType());
+      streams.add(stream.build());
+    }
+    return streams.build();
+  }
+
   @VisibleForTesting
   List<RetryConfigDefinitionView> generateRetryConfigDefinitions(
       InterfaceContext context, List<MethodModel> methods) {
@@ -358,12 +420,28 @@ public class GoGapicSurfaceTransformer implements ModelToViewTransformer<ProtoAp
       if (method.getResponseStreaming()) {
         kinds.add(ImportKind.SERVER_STREAM);
       }
+      if (method.getRequestStreaming()) {
+        kinds.add(ImportKind.REQUEST_STREAM);
+        if (method.getResponseStreaming()) {
+          kinds.add(ImportKind.BIDI_STREAM);
+        }
+      }
       MethodConfig methodConfig = interfaceConfig.getMethodConfig(method);
       if (methodConfig.isLongRunningOperation()) {
         kinds.add(ImportKind.LRO);
       }
       if (methodConfig.isPageStreaming()) {
         kinds.add(ImportKind.PAGE_STREAM);
+        if (methodConfig.getPageStreaming().hasPrefetch()) {
+          kinds.add(ImportKind.PAGE_PREFETCH);
+        }
+      }
+      if (methodConfig.isBatching()) {
+        kinds.add(ImportKind.BATCHING);
+        // Batched messages are sized with proto.Size.
+        if (methodConfig.getBatching().getBatchedField().isMessage()) {
+          kinds.add(ImportKind.BATCHED_MESSAGE);
+        }
       }
     }
     return kinds;
@@ -376,8 +454,13 @@ public class GoGapicSurfaceTransformer implements ModelToViewTransformer<ProtoAp
 
   private enum ImportKind {
     PAGE_STREAM,
+    PAGE_PREFETCH,
     LRO,
     SERVER_STREAM,
+    REQUEST_STREAM,
+    BIDI_STREAM,
+    BATCHING,
+    BATCHED_MESSAGE,
   }
 
   private static final ImmutableTable<ImportContext, ImportKind, ImmutableList<String>>
@@ -394,6 +477,10 @@ public class GoGapicSurfaceTransformer implements ModelToViewTransformer<ProtoAp
                   ImportContext.EXAMPLE,
                   ImportKind.PAGE_STREAM,
                   ImmutableList.<String>of("google.golang.org/api/iterator;;;"))
+              .put(
+                  ImportContext.CLIENT,
+                  ImportKind.PAGE_PREFETCH,
+                  ImmutableList.<String>of("sync;;;"))
               .put(
                   ImportContext.CLIENT,
                   ImportKind.LRO,
@@ -401,6 +488,26 @@ public class GoGapicSurfaceTransformer implements ModelToViewTransformer<ProtoAp
                       "time;;;",
                       "cloud.google.com/go/longrunning;;;",
                       "cloud.google.com/go/longrunning/autogen;lroauto;;"))
+              .put(
+                  ImportContext.CLIENT,
+                  ImportKind.BATCHING,
+                  ImmutableList.<String>of(
+                      "errors;;;",
+                      "sync;;;",
+                      "time;;;",
+                      "google.golang.org/api/support/bundler;;;"))
+              .put(
+                  ImportContext.CLIENT,
+                  ImportKind.BATCHED_MESSAGE,
+                  ImmutableList.<String>of("github.com/golang/protobuf/proto;;;"))
+              .put(
+                  ImportContext.CLIENT,
+                  ImportKind.REQUEST_STREAM,
+                  ImmutableList.<String>of("io;;;"))
+              .put(
+                  ImportContext.CLIENT,
+                  ImportKind.BIDI_STREAM,
+                  ImmutableList.<String>of("sync;;;"))
               .put(
                   ImportContext.EXAMPLE,
                   ImportKind.SERVER_STREAM,
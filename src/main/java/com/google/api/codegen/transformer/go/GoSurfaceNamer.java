@@ -303,6 +303,30 @@ public class GoSurfaceNamer extends SurfaceNamer {
     return "&" + typeNickname.substring(1);
   }
 
+  @Override
+  public String getBatcherConstructorName(MethodModel method) {
+    return publicMethodName(
+        Name.from("new").join(Name.anyCamel(method.getSimpleName())).join("batcher"));
+  }
+
+  @Override
+  public String getStreamConstructorName(MethodModel method) {
+    return publicMethodName(
+        Name.from("new").join(Name.anyCamel(method.getSimpleName())).join("stream"));
+  }
+
+  @Override
+  public String getByteLengthFunctionName(FieldModel field) {
+    if (field.isMessage()) {
+      return "proto.Size";
+    } else if (field.isString() || field.isBytes()) {
+      return "len";
+    } else {
+      throw new IllegalArgumentException(
+          "Can't determine the byte length function for " + field.getKind());
+    }
+  }
+
   @Override
   public String getGrpcContainerTypeName(InterfaceModel apiInterface) {
     return "";
@@ -16,6 +16,7 @@ package com.google.api.codegen.transformer.java;
 
 import com.google.api.codegen.ReleaseLevel;
 import com.google.api.codegen.config.ApiModel;
+import com.google.api.codegen.config.ChannelPoolConfig;
 import com.google.api.codegen.config.FieldConfig;
 import com.google.api.codegen.config.FieldModel;
 import com.google.api.codegen.config.GapicProductConfig;
@@ -24,6 +25,7 @@ import com.google.api.codegen.config.GrpcStreamingConfig.GrpcStreamingType;
 import com.google.api.codegen.config.InterfaceConfig;
 import com.google.api.codegen.config.InterfaceModel;
 import com.google.api.codegen.config.MethodModel;
+import com.google.api.codegen.config.PageStreamingConfig;
 import com.google.api.codegen.config.ProductServiceConfig;
 import com.google.api.codegen.config.SampleSpec.SampleType;
 import com.google.api.codegen.config.TransportProtocol;
@@ -236,7 +238,8 @@ public class JavaSurfaceTransformer {
   private StaticLangPagedResponseView generatePagedResponseWrapper(
       MethodContext context, ImportTypeTable typeTable) {
     MethodModel method = context.getMethodModel();
-    FieldModel resourceField = context.getMethodConfig().getPageStreaming().getResourcesField();
+    PageStreamingConfig pageStreaming = context.getMethodConfig().getPageStreaming();
+    FieldModel resourceField = pageStreaming.getResourcesField();
 
     StaticLangPagedResponseView.Builder pagedResponseWrapper =
         StaticLangPagedResponseView.newBuilder();
@@ -255,6 +258,10 @@ public class JavaSurfaceTransformer {
     pagedResponseWrapper.resourceTypeName(
         typeTable.getAndSaveNicknameForElementType(resourceField));
     pagedResponseWrapper.iterateMethods(getIterateMethods(context));
+    pagedResponseWrapper.prefetchPages(pageStreaming.getPrefetchPages());
+    if (pageStreaming.hasPrefetch()) {
+      typeTable.saveNicknameFor("com.google.api.core.ApiFutureCallback");
+    }
 
     return pagedResponseWrapper.build();
   }
@@ -456,6 +463,11 @@ public class JavaSurfaceTransformer {
         namer.getTransportProvider(productConfig.getTransportProtocol()));
     xsettingsClass.instantiatingChannelProvider(
         namer.getInstantiatingChannelProvider(productConfig.getTransportProtocol()));
+    ChannelPoolConfig channelPoolConfig = interfaceConfig.getChannelPoolConfig();
+    if (channelPoolConfig != null
+        && productConfig.getTransportProtocol().equals(TransportProtocol.GRPC)) {
+      xsettingsClass.channelPoolSize(channelPoolConfig.getPoolSize());
+    }
 
     List<ApiCallSettingsView> apiCallSettings =
         apiCallableTransformer.generateCallSettings(context);
@@ -872,7 +884,6 @@ public class JavaSurfaceTransformer {
         typeTable.saveNicknameFor("com.google.api.core.InternalApi");
         typeTable.saveNicknameFor("com.google.api.pathtemplate.PathTemplate");
         typeTable.saveNicknameFor("com.google.api.gax.httpjson.ApiMessageHttpRequestFormatter");
-        typeTable.saveNicknameFor("com.google.api.gax.httpjson.ApiMessageHttpResponseParser");
         typeTable.saveNicknameFor("com.google.api.gax.httpjson.ApiMethodDescriptor");
         typeTable.saveNicknameFor("com.google.api.gax.httpjson.HttpJsonCallSettings");
         typeTable.saveNicknameFor("com.google.api.gax.httpjson.HttpJsonStubCallableFactory");
@@ -29,6 +29,7 @@ import com.google.api.codegen.config.SampleSpec.SampleType;
 import com.google.api.codegen.config.TypeModel;
 import com.google.api.codegen.config.VisibilityConfig;
 import com.google.api.codegen.gapic.GapicCodePathMapper;
+import com.google.api.codegen.transformer.BatchingTransformer;
 import com.google.api.codegen.transformer.DynamicLangApiMethodTransformer;
 import com.google.api.codegen.transformer.FileHeaderTransformer;
 import com.google.api.codegen.transformer.GapicInterfaceContext;
@@ -78,6 +79,7 @@ public class PhpGapicSurfaceTransformer implements ModelToViewTransformer<ProtoA
   private PathTemplateTransformer pathTemplateTransformer;
   private PageStreamingTransformer pageStreamingTransformer;
   private GrpcStubTransformer grpcStubTransformer;
+  private BatchingTransformer batchingTransformer;
   private final DynamicLangApiMethodTransformer apiMethodTransformer =
       new DynamicLangApiMethodTransformer(
           new PhpApiMethodParamTransformer(), new InitCodeTransformer(), SampleType.IN_CODE);
@@ -100,6 +102,7 @@ public class PhpGapicSurfaceTransformer implements ModelToViewTransformer<ProtoA
     this.pathTemplateTransformer = new PathTemplateTransformer();
     this.pageStreamingTransformer = new PageStreamingTransformer();
     this.grpcStubTransformer = new GrpcStubTransformer();
+    this.batchingTransformer = new BatchingTransformer();
   }
 
   @Override
@@ -176,6 +179,7 @@ public class PhpGapicSurfaceTransformer implements ModelToViewTransformer<ProtoA
     apiImplClass.hasPageStreamingMethods(context.getInterfaceConfig().hasPageStreamingMethods());
     apiImplClass.batchingDescriptors(ImmutableList.<BatchingDescriptorView>of());
     apiImplClass.hasBatchingMethods(context.getInterfaceConfig().hasBatchingMethods());
+    apiImplClass.batchers(batchingTransformer.generateBatcherClasses(context));
     apiImplClass.longRunningDescriptors(createLongRunningDescriptors(context));
     apiImplClass.hasLongRunningOperations(context.getInterfaceConfig().hasLongRunningOperations());
     apiImplClass.grpcStreamingDescriptors(createGrpcStreamingDescriptors(context));
@@ -267,7 +271,7 @@ public class PhpGapicSurfaceTransformer implements ModelToViewTransformer<ProtoA
     SurfaceNamer namer = context.getNamer();
 
     return DescriptorConfigView.newBuilder()
-        .batchingDescriptors(ImmutableList.<BatchingDescriptorView>of())
+        .batchers(batchingTransformer.generateBatcherClasses(context))
         .pageStreamingDescriptors(pageStreamingTransformer.generateDescriptors(context))
         .longRunningDescriptors(createLongRunningDescriptors(context))
         .grpcStreamingDescriptors(createGrpcStreamingDescriptors(context))
@@ -455,6 +459,10 @@ public class PhpGapicSurfaceTransformer implements ModelToViewTransformer<ProtoA
       typeTable.saveNicknameFor("\\Google\\ApiCore\\OperationResponse");
     }
 
+    if (interfaceConfig.hasBatchingMethods()) {
+      typeTable.saveNicknameFor("\\GuzzleHttp\\Promise\\Promise");
+    }
+
     if (interfaceConfig.hasGrpcStreamingMethods()
         || interfaceConfig.hasReroutedInterfaceMethods()) {
       typeTable.saveNicknameFor("\\Google\\ApiCore\\Call");
@@ -15,6 +15,7 @@
 package com.google.api.codegen.transformer.py;
 
 import com.google.api.codegen.config.ApiModel;
+import com.google.api.codegen.config.ChannelPoolConfig;
 import com.google.api.codegen.config.FieldModel;
 import com.google.api.codegen.config.GapicMethodConfig;
 import com.google.api.codegen.config.GapicProductConfig;
@@ -27,6 +28,7 @@ import com.google.api.codegen.config.ProtoApiModel;
 import com.google.api.codegen.config.SampleSpec.SampleType;
 import com.google.api.codegen.gapic.GapicCodePathMapper;
 import com.google.api.codegen.gapic.GapicParser;
+import com.google.api.codegen.transformer.BatchingTransformer;
 import com.google.api.codegen.transformer.DefaultFeatureConfig;
 import com.google.api.codegen.transformer.DynamicLangApiMethodTransformer;
 import com.google.api.codegen.transformer.FeatureConfig;
@@ -46,7 +48,6 @@ import com.google.api.codegen.util.Name;
 import com.google.api.codegen.util.NamePath;
 import com.google.api.codegen.util.VersionMatcher;
 import com.google.api.codegen.util.py.PythonTypeTable;
-import com.google.api.codegen.viewmodel.BatchingDescriptorView;
 import com.google.api.codegen.viewmodel.DynamicLangXApiView;
 import com.google.api.codegen.viewmodel.GrpcDocView;
 import com.google.api.codegen.viewmodel.GrpcElementDocView;
@@ -94,6 +95,7 @@ public class PythonGapicSurfaceTransformer implements ModelToViewTransformer<Pro
       new PythonMethodViewGenerator(apiMethodTransformer);
   private final ServiceTransformer serviceTransformer = new ServiceTransformer();
   private final PageStreamingTransformer pageStreamingTransformer = new PageStreamingTransformer();
+  private final BatchingTransformer batchingTransformer = new BatchingTransformer();
   private final PathTemplateTransformer pathTemplateTransformer = new PathTemplateTransformer();
   private final GrpcStubTransformer grpcStubTransformer = new GrpcStubTransformer();
   private final GrpcElementDocTransformer elementDocTransformer = new GrpcElementDocTransformer();
@@ -232,7 +234,7 @@ public class PythonGapicSurfaceTransformer implements ModelToViewTransformer<Pro
     xapiClass.hasDefaultServiceScopes(context.getInterfaceConfig().hasDefaultServiceScopes());
 
     xapiClass.pageStreamingDescriptors(pageStreamingTransformer.generateDescriptors(context));
-    xapiClass.batchingDescriptors(ImmutableList.<BatchingDescriptorView>of());
+    xapiClass.batchingDescriptors(batchingTransformer.generateDescriptors(context));
     xapiClass.longRunningDescriptors(ImmutableList.<LongRunningOperationDetailView>of());
     xapiClass.grpcStreamingDescriptors(ImmutableList.<GrpcStreamingDetailView>of());
     xapiClass.hasPageStreamingMethods(context.getInterfaceConfig().hasPageStreamingMethods());
@@ -257,6 +259,11 @@ public class PythonGapicSurfaceTransformer implements ModelToViewTransformer<Pro
     xapiClass.grpcTransportClassName(namer.getGrpcTransportClassName(context.getInterfaceConfig()));
     xapiClass.grpcTransportImportName(
         namer.getGrpcTransportImportName(context.getInterfaceConfig()));
+    ChannelPoolConfig channelPoolConfig = context.getInterfaceConfig().getChannelPoolConfig();
+    if (channelPoolConfig != null) {
+      xapiClass.sharesChannel(channelPoolConfig.isSharedAcrossClients());
+      xapiClass.channelPoolSize(channelPoolConfig.getPoolSize());
+    }
 
     // Generate the view for the API class.
     xapiClass.name(name);
@@ -78,12 +78,21 @@ public class PythonImportSectionTransformer implements ImportSectionTransformer
 
   public ImportSectionView generateGrpcTransportImportSection(GapicInterfaceContext context) {
     return ImportSectionView.newBuilder()
-        .standardImports(ImmutableList.of())
+        .standardImports(generateGrpcTransportStandardImports(context))
         .externalImports(generateGrpctransportExternalImports(context))
         .appImports(generateGrpcTransportAppImports(context))
         .build();
   }
 
+  private List<ImportFileView> generateGrpcTransportStandardImports(
+      GapicInterfaceContext context) {
+    ChannelPoolConfig channelPoolConfig = context.getInterfaceConfig().getChannelPoolConfig();
+    if (channelPoolConfig != null && channelPoolConfig.isSharedAcrossClients()) {
+      return ImmutableList.of(createImport("threading"));
+    }
+    return ImmutableList.of();
+  }
+
   private List<ImportFileView> generateGrpctransportExternalImports(GapicInterfaceContext context) {
     ImmutableList.Builder<ImportFileView> externalImports = ImmutableList.builder();
     externalImports.add(createImport("google.api_core.grpc_helpers"));
@@ -109,14 +118,41 @@ public class PythonImportSectionTransformer implements ImportSectionTransformer
 
   private List<ImportFileView> generateFileHeaderStandardImports(InterfaceContext context) {
     ImmutableList.Builder<ImportFileView> imports = ImmutableList.builder();
-    if (context.getInterfaceConfig().hasPageStreamingMethods()) {
+    boolean hasBatchingMethods = context.getInterfaceConfig().hasBatchingMethods();
+    boolean hasPagePrefetchingMethods = hasPagePrefetchingMethods(context);
+    if (hasPagePrefetchingMethods) {
+      imports.add(createImport("collections"));
+    }
+    if (hasBatchingMethods || hasPagePrefetchingMethods) {
+      imports.add(createImport("concurrent.futures"));
+    }
+    if (hasPagePrefetchingMethods) {
+      imports.add(createImport("copy"));
+    }
+    if (context.getInterfaceConfig().hasPageStreamingMethods() || hasBatchingMethods) {
       imports.add(createImport("functools"));
     }
+    if (hasBatchingMethods) {
+      imports.add(createImport("operator"));
+    }
     imports.add(createImport("pkg_resources"));
+    if (hasBatchingMethods) {
+      imports.add(createImport("threading"));
+    }
     imports.add(createImport("warnings"));
     return imports.build();
   }
 
+  private static boolean hasPagePrefetchingMethods(InterfaceContext context) {
+    for (MethodModel method : context.getSupportedMethods()) {
+      MethodConfig methodConfig = context.getMethodConfig(method);
+      if (methodConfig.isPageStreaming() && methodConfig.getPageStreaming().hasPrefetch()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private List<ImportFileView> generateFileHeaderExternalImports(InterfaceContext context) {
     List<ImportFileView> imports = new ArrayList<>();
     imports.add(createImport("grpc"));
@@ -369,6 +369,18 @@ public class PythonSurfaceNamer extends SurfaceNamer {
     return publicFieldName(identifier);
   }
 
+  @Override
+  public String getByteLengthFunctionName(FieldModel field) {
+    if (field.isMessage()) {
+      return "operator.methodcaller('ByteSize')";
+    } else if (field.isString() || field.isBytes()) {
+      return "len";
+    } else {
+      throw new IllegalArgumentException(
+          "Can't determine the byte length function for " + field.getKind());
+    }
+  }
+
   @Override
   public String getProtoFileName(String fileSimpleName) {
     return fileSimpleName.substring(0, fileSimpleName.lastIndexOf('.')) + ".py";
@@ -0,0 +1,117 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.util;
+
+import com.google.api.tools.framework.snippet.Doc;
+import com.google.common.base.Strings;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes generated files through a content-addressed store.
+ *
+ * <p>Every distinct file body is stored once in the store directory, named by the SHA-256 of its
+ * contents, and the output files are hard links to the stored bodies. Generator runs that share a
+ * store, for example the runs generating several languages or APIs, share the files they have in
+ * common, such as license files and Gradle wrappers. Where hard links are not supported, the stored
+ * body is copied instead.
+ *
+ * <p>Since the output files share their contents with the store, and with the outputs of other
+ * runs, they must not be modified in place. Stored bodies are made read-only so that attempts to
+ * do so, for example by formatters run with --replace or by user edits, fail instead of
+ * corrupting the store. Tools that rewrite outputs must replace the file, by writing a new file
+ * and moving it over the output, rather than writing through it.
+ */
+public class ContentAddressedFileWriter {
+  private static final String EXECUTABLE_SUFFIX = ".x";
+
+  private final Path storeDir;
+
+  public ContentAddressedFileWriter(Path storeDir) {
+    this.storeDir = storeDir;
+  }
+
+  /**
+   * Writes the given files, whose bodies are Docs, Strings or byte arrays, to the given output
+   * directory. The given executable files are made executable.
+   */
+  public void writeFiles(Map<String, ?> outputFiles, String outputPath, Set<String> executables)
+      throws IOException {
+    Path outputDir = Paths.get(Strings.nullToEmpty(outputPath));
+    for (Map.Entry<String, ?> entry : outputFiles.entrySet()) {
+      Path storedFile = store(toBytes(entry.getValue()), executables.contains(entry.getKey()));
+      Path outputFile = outputDir.resolve(entry.getKey());
+      if (outputFile.getParent() != null) {
+        Files.createDirectories(outputFile.getParent());
+      }
+      Files.deleteIfExists(outputFile);
+      try {
+        Files.createLink(outputFile, storedFile);
+      } catch (UnsupportedOperationException | FileSystemException e) {
+        Files.copy(storedFile, outputFile);
+      }
+    }
+  }
+
+  private Path store(byte[] contents, boolean executable) throws IOException {
+    // The executable bit is shared by all links of a file, so executable files are stored apart.
+    String hash = Hashing.sha256().hashBytes(contents).toString();
+    Path storedFile =
+        storeDir
+            .resolve(hash.substring(0, 2))
+            .resolve(hash.substring(2) + (executable ? EXECUTABLE_SUFFIX : ""));
+    if (Files.exists(storedFile)) {
+      return storedFile;
+    }
+
+    // Other generator processes may share the store, so bodies are written to a temp file and
+    // moved into place.
+    Files.createDirectories(storedFile.getParent());
+    Path tempFile = Files.createTempFile(storedFile.getParent(), hash, ".tmp");
+    try {
+      Files.write(tempFile, contents);
+      if (executable && !tempFile.toFile().setExecutable(true, false)) {
+        throw new IOException("Failed to make stored file executable: " + tempFile);
+      }
+      if (!tempFile.toFile().setReadOnly()) {
+        throw new IOException("Failed to make stored file read-only: " + tempFile);
+      }
+      Files.move(tempFile, storedFile, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+    return storedFile;
+  }
+
+  private static byte[] toBytes(Object body) {
+    if (body instanceof Doc) {
+      return ((Doc) body).prettyPrint().getBytes(StandardCharsets.UTF_8);
+    } else if (body instanceof String) {
+      return ((String) body).getBytes(StandardCharsets.UTF_8);
+    } else if (body instanceof byte[]) {
+      return (byte[]) body;
+    } else {
+      throw new IllegalArgumentException("Expected one of Doc, String, or byte[]");
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.util;
+
+import com.google.common.base.Strings;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The version of the running generator, used to key content that is cached across runs.
+ *
+ * <p>The version is read from the codegen.properties resource written by the Gradle build. Where
+ * that resource is missing, for example in Bazel builds, the version is a hash of the jar or class
+ * directory the generator was loaded from, so that cached content does not outlive a change to the
+ * generator.
+ */
+public class GeneratorVersion {
+  private static final String PROPERTIES_RESOURCE = "/com/google/api/codegen/codegen.properties";
+
+  private static final Supplier<String> VERSION = Suppliers.memoize(GeneratorVersion::load);
+
+  private GeneratorVersion() {}
+
+  public static String get() {
+    return VERSION.get();
+  }
+
+  private static String load() {
+    Properties properties = new Properties();
+    try (InputStream in = GeneratorVersion.class.getResourceAsStream(PROPERTIES_RESOURCE)) {
+      if (in != null) {
+        properties.load(in);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read " + PROPERTIES_RESOURCE, e);
+    }
+    String version = properties.getProperty("version");
+    return Strings.isNullOrEmpty(version) ? "code:" + hashCodeSource() : version;
+  }
+
+  private static String hashCodeSource() {
+    CodeSource codeSource = GeneratorVersion.class.getProtectionDomain().getCodeSource();
+    if (codeSource == null) {
+      throw new IllegalStateException("Failed to find the generator code source");
+    }
+    try {
+      Path location = Paths.get(codeSource.getLocation().toURI());
+      Hasher hasher = Hashing.sha256().newHasher();
+      if (Files.isDirectory(location)) {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(location)) {
+          files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+          hasher.putString(location.relativize(file).toString(), StandardCharsets.UTF_8);
+          hasher.putByte((byte) 0);
+          hasher.putBytes(Files.readAllBytes(file));
+        }
+      } else {
+        hasher.putBytes(Files.readAllBytes(location));
+      }
+      return hasher.hash().toString();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to hash the generator code source", e);
+    } catch (URISyntaxException e) {
+      throw new IllegalStateException("Failed to find the generator code source", e);
+    }
+  }
+}
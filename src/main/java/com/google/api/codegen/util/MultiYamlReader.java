@@ -38,6 +38,17 @@ public class MultiYamlReader {
       List<String> inputNames,
       List<String> inputs,
       Map<String, Message> supportedConfigTypes) {
+    return read(collector, inputNames, inputs, supportedConfigTypes, null);
+  }
+
+  /** Reads the given inputs, using the given cache for the YAML conversion if it is not null. */
+  @Nullable
+  public static ConfigSource read(
+      DiagCollector collector,
+      List<String> inputNames,
+      List<String> inputs,
+      Map<String, Message> supportedConfigTypes,
+      @Nullable YamlConfigCache cache) {
     Preconditions.checkArgument(
         inputNames.size() == inputs.size(),
         "size() of inputNames and inputs not equal: %d != %d",
@@ -49,7 +60,9 @@ public class MultiYamlReader {
       String input = inputs.get(i);
 
       ConfigSource source =
-          YamlReader.readConfig(collector, inputName, input, supportedConfigTypes);
+          cache == null
+              ? YamlReader.readConfig(collector, inputName, input, supportedConfigTypes)
+              : cache.readConfig(collector, inputName, input, supportedConfigTypes);
 
       if (source != null) {
         if (sourceBuilder == null) {
@@ -70,6 +83,16 @@ public class MultiYamlReader {
   @Nullable
   public static ConfigSource read(
       DiagCollector collector, List<File> files, Map<String, Message> supportedConfigTypes) {
+    return read(collector, files, supportedConfigTypes, null);
+  }
+
+  /** Reads the given files, using the given cache for the YAML conversion if it is not null. */
+  @Nullable
+  public static ConfigSource read(
+      DiagCollector collector,
+      List<File> files,
+      Map<String, Message> supportedConfigTypes,
+      @Nullable YamlConfigCache cache) {
     List<String> inputNames = new ArrayList<>();
     List<String> inputs = new ArrayList<>();
     for (File file : files) {
@@ -89,7 +112,7 @@ public class MultiYamlReader {
     if (collector.getErrorCount() > 0) {
       return null;
     } else {
-      return read(collector, inputNames, inputs, supportedConfigTypes);
+      return read(collector, inputNames, inputs, supportedConfigTypes, cache);
     }
   }
 }
@@ -0,0 +1,137 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.util;
+
+import static com.google.api.FieldBehavior.REQUIRED;
+
+import com.google.api.AnnotationsProto;
+import com.google.api.MethodSignature;
+import com.google.api.OperationData;
+import com.google.api.Resource;
+import com.google.api.tools.framework.model.Field;
+import com.google.api.tools.framework.model.Interface;
+import com.google.api.tools.framework.model.MessageType;
+import com.google.api.tools.framework.model.Method;
+import com.google.api.tools.framework.model.Model;
+import com.google.api.tools.framework.model.ProtoFile;
+import com.google.auto.value.AutoValue;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * The API annotations of the fields and methods of a Model, decoded once from their options.
+ *
+ * <p>Fields and methods that are not part of the Model the index was created from are decoded on
+ * every lookup.
+ */
+class ProtoAnnotationIndex {
+  private final ImmutableMap<Field, FieldAnnotations> fieldAnnotations;
+  private final ImmutableMap<Method, MethodAnnotations> methodAnnotations;
+
+  private ProtoAnnotationIndex(
+      ImmutableMap<Field, FieldAnnotations> fieldAnnotations,
+      ImmutableMap<Method, MethodAnnotations> methodAnnotations) {
+    this.fieldAnnotations = fieldAnnotations;
+    this.methodAnnotations = methodAnnotations;
+  }
+
+  static ProtoAnnotationIndex create(Model model) {
+    ImmutableMap.Builder<Field, FieldAnnotations> fieldAnnotations = ImmutableMap.builder();
+    ImmutableMap.Builder<Method, MethodAnnotations> methodAnnotations = ImmutableMap.builder();
+    for (ProtoFile file : model.getFiles()) {
+      for (MessageType message : file.getMessages()) {
+        addFields(fieldAnnotations, message);
+      }
+      for (Interface apiInterface : file.getInterfaces()) {
+        for (Method method : apiInterface.getMethods()) {
+          methodAnnotations.put(method, MethodAnnotations.of(method));
+        }
+      }
+    }
+    return new ProtoAnnotationIndex(fieldAnnotations.build(), methodAnnotations.build());
+  }
+
+  private static void addFields(
+      ImmutableMap.Builder<Field, FieldAnnotations> fieldAnnotations, MessageType message) {
+    for (Field field : message.getFields()) {
+      fieldAnnotations.put(field, FieldAnnotations.of(field));
+    }
+    for (MessageType nestedMessage : message.getMessages()) {
+      addFields(fieldAnnotations, nestedMessage);
+    }
+  }
+
+  FieldAnnotations getFieldAnnotations(Field field) {
+    FieldAnnotations annotations = fieldAnnotations.get(field);
+    return annotations != null ? annotations : FieldAnnotations.of(field);
+  }
+
+  MethodAnnotations getMethodAnnotations(Method method) {
+    MethodAnnotations annotations = methodAnnotations.get(method);
+    return annotations != null ? annotations : MethodAnnotations.of(method);
+  }
+
+  /** The API annotations of a field. */
+  @AutoValue
+  abstract static class FieldAnnotations {
+    /** The path of the resource annotation, or null if the field has none. */
+    @Nullable
+    abstract String getResourcePath();
+
+    /** The resource reference of the field, or null if the field has none. */
+    @Nullable
+    abstract String getResourceType();
+
+    abstract boolean isRequired();
+
+    @SuppressWarnings("unchecked")
+    private static FieldAnnotations of(Field field) {
+      Resource resource =
+          (Resource) field.getOptionFields().get(AnnotationsProto.resource.getDescriptor());
+      String resourceType =
+          (String) field.getOptionFields().get(AnnotationsProto.resourceReference.getDescriptor());
+      List<EnumValueDescriptor> fieldBehaviors =
+          (List<EnumValueDescriptor>)
+              field.getOptionFields().get(AnnotationsProto.fieldBehavior.getDescriptor());
+      boolean required =
+          fieldBehaviors != null && fieldBehaviors.contains(REQUIRED.getValueDescriptor());
+      return new AutoValue_ProtoAnnotationIndex_FieldAnnotations(
+          resource != null ? resource.getPath() : null, resourceType, required);
+    }
+  }
+
+  /** The API annotations of a method. */
+  @AutoValue
+  abstract static class MethodAnnotations {
+    /** The method signatures, with the repeated additional signatures flattened into the list. */
+    abstract ImmutableList<MethodSignature> getMethodSignatures();
+
+    @Nullable
+    abstract OperationData getLongRunningOperation();
+
+    @SuppressWarnings("unchecked")
+    private static MethodAnnotations of(Method method) {
+      List<MethodSignature> methodSignatures =
+          (List<MethodSignature>)
+              method.getOptionFields().get(AnnotationsProto.methodSignature.getDescriptor());
+      return new AutoValue_ProtoAnnotationIndex_MethodAnnotations(
+          methodSignatures == null ? ImmutableList.of() : ImmutableList.copyOf(methodSignatures),
+          method.getDescriptor().getMethodAnnotation(AnnotationsProto.operation));
+    }
+  }
+}
@@ -14,36 +14,35 @@
  */
 package com.google.api.codegen.util;
 
-import static com.google.api.FieldBehavior.REQUIRED;
-
 import com.google.api.AnnotationsProto;
 import com.google.api.MethodSignature;
 import com.google.api.OperationData;
-import com.google.api.Resource;
 import com.google.api.tools.framework.model.Field;
 import com.google.api.tools.framework.model.Interface;
 import com.google.api.tools.framework.model.MessageType;
 import com.google.api.tools.framework.model.Method;
 import com.google.api.tools.framework.model.Model;
+import com.google.api.tools.framework.model.ProtoElement;
 import com.google.common.base.Strings;
-import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Api;
-import com.google.protobuf.Descriptors.EnumValueDescriptor;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 // Utils for parsing possibly-annotated protobuf API IDL.
 public class ProtoParser {
+  // The annotations are decoded once per Model, and shared by all lookups of this parser.
+  private final Map<Model, ProtoAnnotationIndex> annotationIndexes = new ConcurrentHashMap<>();
+
+  private ProtoAnnotationIndex getAnnotationIndex(ProtoElement element) {
+    return annotationIndexes.computeIfAbsent(element.getModel(), ProtoAnnotationIndex::create);
+  }
 
   /** Return the path, e.g. "shelves/*" for a resource field. Return null if no path found. */
   public String getResourcePath(Field element) {
-    Resource resource =
-        (Resource) element.getOptionFields().get(AnnotationsProto.resource.getDescriptor());
-    if (resource != null) {
-      return resource.getPath();
-    }
-    return null;
+    return getAnnotationIndex(element).getFieldAnnotations(element).getResourcePath();
   }
 
   /** Returns a base package name for an API's client. */
@@ -66,20 +65,13 @@ public class ProtoParser {
 
   /** Get long running settings. */
   public OperationData getLongRunningOperation(Method method) {
-    return method.getDescriptor().getMethodAnnotation(AnnotationsProto.operation);
+    return getAnnotationIndex(method).getMethodAnnotations(method).getLongRunningOperation();
   }
 
-  @SuppressWarnings("unchecked")
   /* Return a list of method signatures, aka flattenings, specified on a given method.
    * This flattens the repeated additionalSignatures into the returned list of MethodSignatures. */
   public List<MethodSignature> getMethodSignatures(Method method) {
-    List<MethodSignature> methodSignatures =
-        (List<MethodSignature>)
-            method.getOptionFields().get(AnnotationsProto.methodSignature.getDescriptor());
-    if (methodSignatures == null) {
-      return ImmutableList.of();
-    }
-    return ImmutableList.copyOf(methodSignatures);
+    return getAnnotationIndex(method).getMethodAnnotations(method).getMethodSignatures();
   }
 
   /** Return the names of required parameters of a method. */
@@ -93,18 +85,14 @@ public class ProtoParser {
         .collect(Collectors.toList());
   }
 
-  @SuppressWarnings("unchecked")
   /* Returns if a field is required, according to the proto annotations. */
   private boolean isFieldRequired(Field field) {
-    List<EnumValueDescriptor> fieldBehaviors =
-        (List<EnumValueDescriptor>)
-            field.getOptionFields().get(AnnotationsProto.fieldBehavior.getDescriptor());
-    return fieldBehaviors != null && fieldBehaviors.contains(REQUIRED.getValueDescriptor());
+    return getAnnotationIndex(field).getFieldAnnotations(field).isRequired();
   }
 
   /** Return the resource type for the given field. */
   public String getResourceType(Field field) {
-    return (String) field.getOptionFields().get(AnnotationsProto.resourceReference.getDescriptor());
+    return getAnnotationIndex(field).getFieldAnnotations(field).getResourceType();
   }
 
   /** Return whether the method has the HttpRule for GET. */
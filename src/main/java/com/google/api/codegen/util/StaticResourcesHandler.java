@@ -19,9 +19,17 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.io.ByteStreams;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class StaticResourcesHandler {
+  /**
+   * The contents of the static resources read so far, keyed by resource path. Resources do not
+   * change while the process runs, so every handler shares them instead of reading them again.
+   */
+  private static final Map<String, byte[]> resourceCache = new ConcurrentHashMap<>();
+
   private Map<String, String> resourceFilesMap;
 
   public StaticResourcesHandler(Map<String, String> resourceFilesMap) {
@@ -32,24 +40,41 @@ public class StaticResourcesHandler {
     return this.resourceFilesMap;
   }
 
+  /**
+   * Returns the contents of the resources keyed by output path. The returned arrays are shared by
+   * all callers and must not be modified.
+   */
   public Map<String, byte[]> getResources() throws IOException {
-    ClassLoader cl = getClass().getClassLoader();
     ImmutableMap.Builder<String, byte[]> resources = ImmutableMap.builder();
     for (Map.Entry<String, String> entry : resourceFilesMap.entrySet()) {
       String resourcePath = SnippetSetRunner.SNIPPET_RESOURCE_ROOT + '/' + entry.getKey();
-      InputStream resourceStream = cl.getResourceAsStream(resourcePath);
-      // Hack necessary to allow jar files to be included in the fat jar
-      if (resourceStream == null && resourcePath.endsWith(".jar")) {
-        resourcePath = resourcePath.replace(".jar", ".zjar");
-        resourceStream = cl.getResourceAsStream(resourcePath);
-      }
-      if (resourceStream == null) {
-        throw new IllegalArgumentException("Static resource not found: '" + resourcePath + "'");
+      byte[] resource;
+      try {
+        resource = resourceCache.computeIfAbsent(resourcePath, this::readResource);
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
       }
-      byte[] resource = ByteStreams.toByteArray(resourceStream);
       resources.put(entry.getValue(), resource);
     }
 
     return resources.build();
   }
+
+  private byte[] readResource(String resourcePath) {
+    ClassLoader cl = getClass().getClassLoader();
+    InputStream resourceStream = cl.getResourceAsStream(resourcePath);
+    // Hack necessary to allow jar files to be included in the fat jar
+    if (resourceStream == null && resourcePath.endsWith(".jar")) {
+      resourcePath = resourcePath.replace(".jar", ".zjar");
+      resourceStream = cl.getResourceAsStream(resourcePath);
+    }
+    if (resourceStream == null) {
+      throw new IllegalArgumentException("Static resource not found: '" + resourcePath + "'");
+    }
+    try (InputStream stream = resourceStream) {
+      return ByteStreams.toByteArray(stream);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 }
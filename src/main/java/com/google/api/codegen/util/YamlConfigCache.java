@@ -0,0 +1,198 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.util;
+
+import com.google.api.tools.framework.model.BoundedDiagCollector;
+import com.google.api.tools.framework.model.ConfigSource;
+import com.google.api.tools.framework.model.Diag;
+import com.google.api.tools.framework.model.DiagCollector;
+import com.google.api.tools.framework.model.SimpleLocation;
+import com.google.api.tools.framework.yaml.YamlReader;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.protobuf.Message;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.annotation.Nullable;
+
+/**
+ * An on-disk cache of the protos that YAML config files are converted to.
+ *
+ * <p>Entries are keyed by a hash of the file name, the file contents, the generator version and the
+ * descriptors of the supported config types, and hold the config proto in binary form together
+ * with the warnings reported while converting it, which are reported again on every cache hit.
+ * Conversions that report errors are not cached.
+ *
+ * <p>Config sources read from the cache carry no YAML locations, so diags about their contents
+ * point to the top level of the file.
+ */
+public class YamlConfigCache {
+  private static final String CACHE_FILE_SUFFIX = ".configproto";
+
+  /** Converts YAML input to a config source, like {@link YamlReader#readConfig}. */
+  @VisibleForTesting
+  interface Converter {
+    @Nullable
+    ConfigSource convert(
+        DiagCollector collector,
+        String inputName,
+        String input,
+        Map<String, Message> supportedConfigTypes);
+  }
+
+  private final Path cacheDir;
+  private final String generatorVersion;
+  private final Converter converter;
+
+  public YamlConfigCache(Path cacheDir) {
+    this(cacheDir, GeneratorVersion.get());
+  }
+
+  @VisibleForTesting
+  YamlConfigCache(Path cacheDir, String generatorVersion) {
+    this(cacheDir, generatorVersion, YamlReader::readConfig);
+  }
+
+  @VisibleForTesting
+  YamlConfigCache(Path cacheDir, String generatorVersion, Converter converter) {
+    this.cacheDir = cacheDir;
+    this.generatorVersion = generatorVersion;
+    this.converter = converter;
+  }
+
+  /**
+   * Converts the given YAML input to a config source like {@link YamlReader#readConfig}, using the
+   * cached proto if the input was converted before.
+   */
+  @Nullable
+  public ConfigSource readConfig(
+      DiagCollector collector,
+      String inputName,
+      String input,
+      Map<String, Message> supportedConfigTypes) {
+    Path cacheFile =
+        cacheDir.resolve(getKey(inputName, input, supportedConfigTypes) + CACHE_FILE_SUFFIX);
+    ConfigSource cachedSource = readCacheFile(collector, cacheFile, supportedConfigTypes);
+    if (cachedSource != null) {
+      return cachedSource;
+    }
+
+    BoundedDiagCollector yamlDiags = new BoundedDiagCollector();
+    ConfigSource source = converter.convert(yamlDiags, inputName, input, supportedConfigTypes);
+    for (Diag diag : yamlDiags.getDiags()) {
+      collector.addDiag(diag);
+    }
+    if (source != null && !yamlDiags.hasErrors()) {
+      writeCacheFile(cacheFile, source.getConfig(), yamlDiags.getDiags());
+    }
+    return source;
+  }
+
+  private String getKey(String inputName, String input, Map<String, Message> supportedConfigTypes) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putString(generatorVersion, StandardCharsets.UTF_8).putByte((byte) 0);
+    for (Map.Entry<String, Message> configType : new TreeMap<>(supportedConfigTypes).entrySet()) {
+      hasher.putString(configType.getKey(), StandardCharsets.UTF_8).putByte((byte) 0);
+      hasher.putBytes(
+          configType.getValue().getDescriptorForType().getFile().toProto().toByteArray());
+    }
+    hasher.putString(inputName, StandardCharsets.UTF_8).putByte((byte) 0);
+    hasher.putString(input, StandardCharsets.UTF_8);
+    return hasher.hash().toString();
+  }
+
+  @Nullable
+  private static ConfigSource readCacheFile(
+      DiagCollector collector, Path cacheFile, Map<String, Message> supportedConfigTypes) {
+    try (DataInputStream in = new DataInputStream(Files.newInputStream(cacheFile))) {
+      Message configType = supportedConfigTypes.get(in.readUTF());
+      if (configType == null) {
+        return null;
+      }
+      List<Diag> warnings = new ArrayList<>();
+      int warningCount = in.readInt();
+      for (int i = 0; i < warningCount; i++) {
+        String location = in.readUTF();
+        String message = in.readUTF();
+        warnings.add(Diag.warning(new SimpleLocation(location), "%s", message));
+      }
+      byte[] configBytes = new byte[in.readInt()];
+      in.readFully(configBytes);
+      Message config = configType.getParserForType().parseFrom(configBytes);
+
+      for (Diag warning : warnings) {
+        collector.addDiag(warning);
+      }
+      return ConfigSource.newBuilder(config).build();
+    } catch (IOException e) {
+      // A missing or broken cache entry is treated as a miss, and replaced.
+      return null;
+    }
+  }
+
+  private void writeCacheFile(Path cacheFile, Message config, List<Diag> diags) {
+    for (Diag diag : diags) {
+      if (diag.getKind() != Diag.Kind.WARNING) {
+        return;
+      }
+    }
+    Path tempFile = null;
+    try {
+      Files.createDirectories(cacheDir);
+      // Other generator processes may share the cache, so entries are written to a temp file
+      // and moved into place.
+      tempFile = Files.createTempFile(cacheDir, cacheFile.getFileName().toString(), ".tmp");
+      try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tempFile))) {
+        out.writeUTF(config.getDescriptorForType().getFullName());
+        out.writeInt(diags.size());
+        for (Diag diag : diags) {
+          out.writeUTF(diag.getLocation().getDisplayString());
+          out.writeUTF(diag.getMessage());
+        }
+        byte[] configBytes = config.toByteArray();
+        out.writeInt(configBytes.length);
+        out.write(configBytes);
+      }
+      Files.move(tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      // The cache is only an optimization, so the config is still returned.
+      System.err.println("Failed to write config cache entry " + cacheFile + ": " + e);
+    } finally {
+      deleteTempFile(tempFile);
+    }
+  }
+
+  private static void deleteTempFile(@Nullable Path tempFile) {
+    if (tempFile == null) {
+      return;
+    }
+    try {
+      // The temp file is gone if it was moved into place.
+      Files.deleteIfExists(tempFile);
+    } catch (IOException e) {
+      System.err.println("Failed to delete temp file " + tempFile + ": " + e);
+    }
+  }
+}
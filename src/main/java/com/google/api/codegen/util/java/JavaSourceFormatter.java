@@ -0,0 +1,65 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.util.java;
+
+import com.google.api.tools.framework.snippet.Doc;
+import com.google.googlejavaformat.java.Formatter;
+import com.google.googlejavaformat.java.FormatterException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Formats generated Java files with google-java-format. */
+public class JavaSourceFormatter {
+  private static final int DOC_WIDTH = 100;
+
+  private final Formatter formatter = new Formatter();
+
+  /**
+   * Returns the given output files with every Java Doc replaced by its formatted text. The files
+   * are formatted in parallel. Other files are returned unchanged, in their original order.
+   */
+  public Map<String, Object> formatJavaDocs(Map<String, ?> outputFiles) {
+    Map<String, Object> formattedDocs = new ConcurrentHashMap<>();
+    outputFiles
+        .entrySet()
+        .parallelStream()
+        .filter(entry -> isJavaDoc(entry.getKey(), entry.getValue()))
+        .forEach(
+            entry ->
+                formattedDocs.put(
+                    entry.getKey(), format(entry.getKey(), (Doc) entry.getValue())));
+
+    Map<String, Object> result = new LinkedHashMap<>();
+    for (Map.Entry<String, ?> entry : outputFiles.entrySet()) {
+      Object formattedDoc = formattedDocs.get(entry.getKey());
+      result.put(entry.getKey(), formattedDoc != null ? formattedDoc : entry.getValue());
+    }
+    return result;
+  }
+
+  private static boolean isJavaDoc(String fileName, Object body) {
+    return fileName.endsWith(".java") && body instanceof Doc;
+  }
+
+  private Doc format(String fileName, Doc doc) {
+    try {
+      // Like the google-java-format CLI, imports are sorted and unused ones removed.
+      return Doc.text(formatter.formatSourceAndFixImports(doc.prettyPrint(DOC_WIDTH)));
+    } catch (FormatterException e) {
+      throw new IllegalStateException("Failed to format generated file " + fileName, e);
+    }
+  }
+}
@@ -17,6 +17,7 @@ package com.google.api.codegen.util.testing;
 import com.google.api.codegen.config.TypeModel;
 import com.google.api.codegen.util.Name;
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * A utility class used by the test generators which populates values for primitive fields.
@@ -26,6 +27,9 @@ import java.util.HashMap;
  */
 public class TestValueGenerator {
   private final HashMap<Name, String> valueTable = new HashMap<>();
+  // Number of entries in valueTable holding each value, so that uniqueness checks do not need to
+  // scan the table.
+  private final Map<String, Integer> valueCounts = new HashMap<>();
   private final ValueProducer producer;
 
   public TestValueGenerator(ValueProducer producer) {
@@ -35,13 +39,22 @@ public class TestValueGenerator {
   public String getAndStoreValue(TypeModel type, Name identifier) {
     if (!valueTable.containsKey(identifier)) {
       String value = producer.produce(type, identifier);
-      while (type.getPrimitiveTypeName() != "bool" && valueTable.containsValue(value)) {
+      boolean isBool = "bool".equals(type.getPrimitiveTypeName());
+      while (!isBool && valueCounts.containsKey(value)) {
         // If the value already exists regenerate using a deterministically different identifier.
         identifier = identifier.join("1");
         value = producer.produce(type, identifier);
       }
-      valueTable.put(identifier, value);
+      storeValue(identifier, value);
     }
     return valueTable.get(identifier);
   }
+
+  private void storeValue(Name identifier, String value) {
+    String replacedValue = valueTable.put(identifier, value);
+    if (replacedValue != null) {
+      valueCounts.computeIfPresent(replacedValue, (v, count) -> count > 1 ? count - 1 : null);
+    }
+    valueCounts.merge(value, 1, Integer::sum);
+  }
 }
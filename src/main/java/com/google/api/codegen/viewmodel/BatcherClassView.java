@@ -0,0 +1,121 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.viewmodel;
+
+import com.google.auto.value.AutoValue;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/** A client-side batcher that merges the requests of a batching method into fewer calls. */
+@AutoValue
+public abstract class BatcherClassView {
+
+  public abstract String typeName();
+
+  public abstract String constructorName();
+
+  public abstract String resultTypeName();
+
+  public abstract String itemTypeName();
+
+  public abstract String methodName();
+
+  public abstract String grpcMethodName();
+
+  public abstract String requestTypeName();
+
+  @Nullable
+  public abstract String responseTypeName();
+
+  public abstract String batchedFieldName();
+
+  public abstract String batchedFieldSetFunction();
+
+  public abstract String batchedFieldDocName();
+
+  public abstract String batchedElementTypeName();
+
+  public abstract String byteLengthFunctionName();
+
+  @Nullable
+  public abstract String subresponseFieldName();
+
+  @Nullable
+  public abstract String subresponseSetFunction();
+
+  @Nullable
+  public abstract String subresponseElementTypeName();
+
+  public abstract List<String> discriminatorFieldNames();
+
+  public abstract List<BatchingPartitionKeyView> partitionKeys();
+
+  public abstract BatchingConfigView batchingConfig();
+
+  public boolean hasResponse() {
+    return responseTypeName() != null;
+  }
+
+  public boolean hasSubresponse() {
+    return subresponseFieldName() != null;
+  }
+
+  public static Builder newBuilder() {
+    return new AutoValue_BatcherClassView.Builder();
+  }
+
+  @AutoValue.Builder
+  public abstract static class Builder {
+    public abstract Builder typeName(String val);
+
+    public abstract Builder constructorName(String val);
+
+    public abstract Builder resultTypeName(String val);
+
+    public abstract Builder itemTypeName(String val);
+
+    public abstract Builder methodName(String val);
+
+    public abstract Builder grpcMethodName(String val);
+
+    public abstract Builder requestTypeName(String val);
+
+    public abstract Builder responseTypeName(String val);
+
+    public abstract Builder batchedFieldName(String val);
+
+    public abstract Builder batchedFieldSetFunction(String val);
+
+    public abstract Builder batchedFieldDocName(String val);
+
+    public abstract Builder batchedElementTypeName(String val);
+
+    public abstract Builder byteLengthFunctionName(String val);
+
+    public abstract Builder subresponseFieldName(String val);
+
+    public abstract Builder subresponseSetFunction(String val);
+
+    public abstract Builder subresponseElementTypeName(String val);
+
+    public abstract Builder discriminatorFieldNames(List<String> val);
+
+    public abstract Builder partitionKeys(List<BatchingPartitionKeyView> val);
+
+    public abstract Builder batchingConfig(BatchingConfigView val);
+
+    public abstract BatcherClassView build();
+  }
+}
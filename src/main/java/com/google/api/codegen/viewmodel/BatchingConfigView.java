@@ -21,8 +21,12 @@ import javax.annotation.Nullable;
 public abstract class BatchingConfigView {
   public abstract int elementCountThreshold();
 
+  public abstract int elementCountLimit();
+
   public abstract long requestByteThreshold();
 
+  public abstract long requestByteLimit();
+
   public abstract long delayThresholdMillis();
 
   @Nullable
@@ -33,6 +37,31 @@ public abstract class BatchingConfigView {
 
   public abstract String flowControlLimitExceededBehavior();
 
+  public boolean hasElementCountThreshold() {
+    return elementCountThreshold() > 0;
+  }
+
+  public boolean hasRequestByteThreshold() {
+    return requestByteThreshold() > 0;
+  }
+
+  public boolean hasDelayThreshold() {
+    return delayThresholdMillis() > 0;
+  }
+
+  public boolean hasElementCountLimit() {
+    return elementCountLimit() > 0;
+  }
+
+  public boolean hasRequestByteLimit() {
+    return requestByteLimit() > 0;
+  }
+
+  /** Whether a batch is sent before adding a request would take it over a limit. */
+  public boolean hasBatchLimit() {
+    return hasElementCountLimit() || hasRequestByteLimit();
+  }
+
   public boolean hasFlowControlElementLimit() {
     return flowControlElementLimit() != null;
   }
@@ -41,6 +70,12 @@ public abstract class BatchingConfigView {
     return flowControlByteLimit() != null;
   }
 
+  /** Whether the flow control limits are enforced, rather than ignored. */
+  public boolean hasFlowControl() {
+    return !flowControlLimitExceededBehavior().equals("Ignore")
+        && (hasFlowControlElementLimit() || hasFlowControlByteLimit());
+  }
+
   public static Builder newBuilder() {
     return new AutoValue_BatchingConfigView.Builder();
   }
@@ -49,8 +84,12 @@ public abstract class BatchingConfigView {
   public abstract static class Builder {
     public abstract Builder elementCountThreshold(int val);
 
+    public abstract Builder elementCountLimit(int val);
+
     public abstract Builder requestByteThreshold(long val);
 
+    public abstract Builder requestByteLimit(long val);
+
     public abstract Builder delayThresholdMillis(long val);
 
     public abstract Builder flowControlElementLimit(Long val);
@@ -22,6 +22,8 @@ import javax.annotation.Nullable;
 public abstract class BatchingDescriptorView {
   public abstract String methodName();
 
+  public abstract String grpcMethodName();
+
   public abstract String batchedFieldName();
 
   public abstract List<String> discriminatorFieldNames();
@@ -43,6 +45,8 @@ public abstract class BatchingDescriptorView {
   public abstract static class Builder {
     public abstract Builder methodName(String val);
 
+    public abstract Builder grpcMethodName(String val);
+
     public abstract Builder batchedFieldName(String val);
 
     public abstract Builder subresponseFieldName(String val);
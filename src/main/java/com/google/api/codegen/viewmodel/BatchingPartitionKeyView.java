@@ -15,12 +15,16 @@
 package com.google.api.codegen.viewmodel;
 
 import com.google.auto.value.AutoValue;
+import java.util.List;
 
 @AutoValue
 public abstract class BatchingPartitionKeyView {
 
   public abstract String fieldGetFunction();
 
+  /** The getters leading from the request to the key field, which may be a nested field. */
+  public abstract List<String> gettersChain();
+
   public static Builder newBuilder() {
     return new AutoValue_BatchingPartitionKeyView.Builder();
   }
@@ -30,6 +34,8 @@ public abstract class BatchingPartitionKeyView {
 
     public abstract Builder fieldGetFunction(String val);
 
+    public abstract Builder gettersChain(List<String> val);
+
     public abstract BatchingPartitionKeyView build();
   }
 }
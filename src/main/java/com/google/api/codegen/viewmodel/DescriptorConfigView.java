@@ -24,7 +24,7 @@ public abstract class DescriptorConfigView implements ViewModel {
 
   public abstract List<PageStreamingDescriptorView> pageStreamingDescriptors();
 
-  public abstract List<BatchingDescriptorView> batchingDescriptors();
+  public abstract List<BatcherClassView> batchers();
 
   public abstract List<LongRunningOperationDetailView> longRunningDescriptors();
 
@@ -39,7 +39,7 @@ public abstract class DescriptorConfigView implements ViewModel {
   }
 
   public boolean hasBatchingMethods() {
-    return batchingDescriptors().size() > 0;
+    return batchers().size() > 0;
   }
 
   public boolean hasLongRunningOperations() {
@@ -65,7 +65,7 @@ public abstract class DescriptorConfigView implements ViewModel {
 
     public abstract Builder pageStreamingDescriptors(List<PageStreamingDescriptorView> val);
 
-    public abstract Builder batchingDescriptors(List<BatchingDescriptorView> val);
+    public abstract Builder batchers(List<BatcherClassView> val);
 
     public abstract Builder longRunningDescriptors(List<LongRunningOperationDetailView> val);
 
@@ -53,8 +53,16 @@ public abstract class DynamicLangXApiView implements ViewModel {
 
   public abstract List<PageStreamingDescriptorView> pageStreamingDescriptors();
 
+  public boolean hasPagePrefetchingMethods() {
+    return pageStreamingDescriptors().stream().anyMatch(PageStreamingDescriptorView::hasPrefetch);
+  }
+
   public abstract List<BatchingDescriptorView> batchingDescriptors();
 
+  /** The client-side batchers of the batching methods. It is currently only used by PHP. */
+  @Nullable
+  public abstract List<BatcherClassView> batchers();
+
   public abstract List<LongRunningOperationDetailView> longRunningDescriptors();
 
   public abstract List<GrpcStreamingDetailView> grpcStreamingDescriptors();
@@ -128,6 +136,12 @@ public abstract class DynamicLangXApiView implements ViewModel {
   @Nullable
   public abstract String grpcTransportImportName();
 
+  // Whether transports created with the default settings share a channel.
+  public abstract boolean sharesChannel();
+
+  // The number of channels in the pool shared by the transports.
+  public abstract int channelPoolSize();
+
   @Override
   public String resourceRoot() {
     return SnippetSetRunner.SNIPPET_RESOURCE_ROOT;
@@ -136,7 +150,7 @@ public abstract class DynamicLangXApiView implements ViewModel {
   public abstract Builder toBuilder();
 
   public static Builder newBuilder() {
-    return new AutoValue_DynamicLangXApiView.Builder();
+    return new AutoValue_DynamicLangXApiView.Builder().sharesChannel(false).channelPoolSize(1);
   }
 
   @AutoValue.Builder
@@ -171,6 +185,8 @@ public abstract class DynamicLangXApiView implements ViewModel {
 
     public abstract Builder batchingDescriptors(List<BatchingDescriptorView> val);
 
+    public abstract Builder batchers(List<BatcherClassView> val);
+
     public abstract Builder longRunningDescriptors(List<LongRunningOperationDetailView> val);
 
     public abstract Builder grpcStreamingDescriptors(List<GrpcStreamingDetailView> val);
@@ -215,6 +231,10 @@ public abstract class DynamicLangXApiView implements ViewModel {
 
     public abstract Builder grpcTransportImportName(String val);
 
+    public abstract Builder sharesChannel(boolean val);
+
+    public abstract Builder channelPoolSize(int val);
+
     public abstract DynamicLangXApiView build();
   }
 }
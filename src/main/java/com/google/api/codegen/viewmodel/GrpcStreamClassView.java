@@ -0,0 +1,76 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.viewmodel;
+
+import com.google.api.codegen.config.GrpcStreamingConfig.GrpcStreamingType;
+import com.google.auto.value.AutoValue;
+
+/**
+ * A client-side wrapper of a client-streaming or bidi-streaming method, which buffers the requests
+ * sent on the stream.
+ */
+@AutoValue
+public abstract class GrpcStreamClassView {
+
+  public abstract String typeName();
+
+  public abstract String settingsTypeName();
+
+  public abstract String constructorName();
+
+  public abstract String methodName();
+
+  public abstract String stubName();
+
+  /** The type of the stream returned by the gRPC stub. */
+  public abstract String grpcStreamTypeName();
+
+  public abstract String requestTypeName();
+
+  public abstract String responseTypeName();
+
+  public abstract GrpcStreamingType grpcStreamingType();
+
+  public boolean isBidiStreaming() {
+    return grpcStreamingType() == GrpcStreamingType.BidiStreaming;
+  }
+
+  public static Builder newBuilder() {
+    return new AutoValue_GrpcStreamClassView.Builder();
+  }
+
+  @AutoValue.Builder
+  public abstract static class Builder {
+    public abstract Builder typeName(String val);
+
+    public abstract Builder settingsTypeName(String val);
+
+    public abstract Builder constructorName(String val);
+
+    public abstract Builder methodName(String val);
+
+    public abstract Builder stubName(String val);
+
+    public abstract Builder grpcStreamTypeName(String val);
+
+    public abstract Builder requestTypeName(String val);
+
+    public abstract Builder responseTypeName(String val);
+
+    public abstract Builder grpcStreamingType(GrpcStreamingType val);
+
+    public abstract GrpcStreamClassView build();
+  }
+}
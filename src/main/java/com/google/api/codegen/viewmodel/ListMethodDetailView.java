@@ -30,6 +30,13 @@ public abstract class ListMethodDetailView {
 
   public abstract String resourcesFieldGetFunction();
 
+  /** The number of pages fetched ahead of the page being consumed. */
+  public abstract int prefetchPages();
+
+  public boolean hasPrefetch() {
+    return prefetchPages() > 0;
+  }
+
   public static Builder newBuilder() {
     return new AutoValue_ListMethodDetailView.Builder();
   }
@@ -48,6 +55,8 @@ public abstract class ListMethodDetailView {
 
     public abstract Builder resourcesFieldGetFunction(String name);
 
+    public abstract Builder prefetchPages(int val);
+
     public abstract ListMethodDetailView build();
   }
 }
@@ -45,10 +45,17 @@ public abstract class PageStreamingDescriptorClassView {
 
   public abstract boolean resourcesFieldIsMap();
 
+  /** The number of pages fetched ahead of the page being consumed. */
+  public abstract int prefetchPages();
+
   public boolean requestHasPageSize() {
     return requestPageSizeSetFunction() != null && requestPageSizeGetFunction() != null;
   }
 
+  public boolean hasPrefetch() {
+    return prefetchPages() > 0;
+  }
+
   public static Builder newBuilder() {
     return new AutoValue_PageStreamingDescriptorClassView.Builder();
   }
@@ -80,6 +87,8 @@ public abstract class PageStreamingDescriptorClassView {
 
     public abstract Builder resourcesFieldIsMap(boolean val);
 
+    public abstract Builder prefetchPages(int val);
+
     public abstract PageStreamingDescriptorClassView build();
   }
 }
@@ -45,6 +45,9 @@ public abstract class PageStreamingDescriptorView {
 
   public abstract String transportMethodName();
 
+  /** The number of pages fetched ahead of the page being consumed. */
+  public abstract int prefetchPages();
+
   public static Builder newBuilder() {
     return new AutoValue_PageStreamingDescriptorView.Builder();
   }
@@ -53,6 +56,10 @@ public abstract class PageStreamingDescriptorView {
     return requestPageSizeGetMethodName() != null;
   }
 
+  public boolean hasPrefetch() {
+    return prefetchPages() > 0;
+  }
+
   @AutoValue.Builder
   public abstract static class Builder {
     public abstract Builder varName(String val);
@@ -79,6 +86,8 @@ public abstract class PageStreamingDescriptorView {
 
     public abstract Builder transportMethodName(String val);
 
+    public abstract Builder prefetchPages(int val);
+
     public abstract PageStreamingDescriptorView build();
   }
 }
@@ -0,0 +1,60 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.viewmodel;
+
+import com.google.auto.value.AutoValue;
+import javax.annotation.Nullable;
+
+/** A segment of the path template of a resource name: either literal text, or a variable. */
+@AutoValue
+public abstract class ResourceNamePathSegmentView {
+  // The literal text, e.g. "/topics/", or the name of the variable, e.g. "topic".
+  public abstract String text();
+
+  public abstract boolean isVariable();
+
+  // Whether this is the last segment of the path template.
+  public abstract boolean isLast();
+
+  // The index of the variable among the variables of the path template, in template order.
+  public abstract int variableIndex();
+
+  // The name of the builder function to set the variable.
+  @Nullable
+  public abstract String fieldSetFunction();
+
+  public int length() {
+    return text().length();
+  }
+
+  public static Builder newBuilder() {
+    return new AutoValue_ResourceNamePathSegmentView.Builder().isLast(false).variableIndex(0);
+  }
+
+  @AutoValue.Builder
+  public abstract static class Builder {
+    public abstract Builder text(String val);
+
+    public abstract Builder isVariable(boolean val);
+
+    public abstract Builder isLast(boolean val);
+
+    public abstract Builder variableIndex(int val);
+
+    public abstract Builder fieldSetFunction(String val);
+
+    public abstract ResourceNamePathSegmentView build();
+  }
+}
@@ -16,6 +16,7 @@ package com.google.api.codegen.viewmodel;
 
 import com.google.api.codegen.SnippetSetRunner;
 import com.google.auto.value.AutoValue;
+import java.util.List;
 
 // View of both api and settings for static language.
 // ViewModel members delegate to api.
@@ -30,6 +31,8 @@ public abstract class StaticLangApiAndSettingsFileView implements ViewModel {
 
   public abstract StaticLangSettingsView settings();
 
+  public abstract List<BatcherClassView> batchers();
+
   @Override
   public abstract String outputPath();
 
@@ -54,6 +57,8 @@ public abstract class StaticLangApiAndSettingsFileView implements ViewModel {
 
     public abstract Builder settings(StaticLangSettingsView val);
 
+    public abstract Builder batchers(List<BatcherClassView> val);
+
     public abstract StaticLangApiAndSettingsFileView build();
   }
 }
@@ -63,6 +63,38 @@ public abstract class StaticLangApiMessageView implements Comparable<StaticLangA
 
   public abstract boolean canRepeat();
 
+  public abstract boolean isMap();
+
+  // For maps, the type name of the values, e.g. "AddressesScopedList".
+  @Nullable
+  public abstract String mapValueTypeName();
+
+  // The type name of the elements of a list or the values of a map, or else of this Schema.
+  public String elementTypeName() {
+    return isMap() ? mapValueTypeName() : innerTypeName();
+  }
+
+  // The kind of JSON value of this Schema, or of its elements or map values, e.g. "String" or
+  // "Message", which selects how it is read and written by the generated JSON methods.
+  @Nullable
+  public abstract String jsonKind();
+
+  // If subfields of this field can be selected in partial responses, which is the case for
+  // messages and lists of messages.
+  public boolean canSelectSubfields() {
+    return "Message".equals(jsonKind()) && !isMap();
+  }
+
+  // For the fields parameter of a request, the type name of the selector of the fields of the
+  // response, e.g. "Address.FieldSelector".
+  @Nullable
+  public abstract String fieldSelectorTypeName();
+
+  // For the fields parameter of a request of a page streaming method, the name of the field of the
+  // response that holds the next page token, which is always selected.
+  @Nullable
+  public abstract String pageTokenFieldName();
+
   @Nullable
   public abstract StaticLangApiMessageView requestBodyType();
 
@@ -80,11 +112,20 @@ public abstract class StaticLangApiMessageView implements Comparable<StaticLangA
   // If this field should be part of the parent message's serialization.
   public abstract boolean isSerializable();
 
+  // If field-by-field JSON reader and writer methods are generated for this message.
+  public abstract boolean hasJsonCodec();
+
+  // If a selector of the fields to return in partial responses is generated for this message.
+  public abstract boolean hasFieldSelector();
+
   public static StaticLangApiMessageView.Builder newBuilder() {
     return new AutoValue_StaticLangApiMessageView.Builder()
         .hasRequiredProperties(false)
         .hasFieldMask(false)
-        .isSerializable(true);
+        .isSerializable(true)
+        .isMap(false)
+        .hasJsonCodec(false)
+        .hasFieldSelector(false);
   }
 
   @AutoValue.Builder
@@ -113,10 +154,24 @@ public abstract class StaticLangApiMessageView implements Comparable<StaticLangA
 
     public abstract Builder canRepeat(boolean val);
 
+    public abstract Builder isMap(boolean val);
+
+    public abstract Builder mapValueTypeName(String val);
+
+    public abstract Builder jsonKind(String val);
+
+    public abstract Builder fieldSelectorTypeName(String val);
+
+    public abstract Builder pageTokenFieldName(String val);
+
     public abstract Builder hasFieldMask(boolean val);
 
     public abstract Builder isSerializable(boolean val);
 
+    public abstract Builder hasJsonCodec(boolean val);
+
+    public abstract Builder hasFieldSelector(boolean val);
+
     public abstract Builder requestBodyType(StaticLangApiMessageView val);
 
     public abstract StaticLangApiMessageView build();
@@ -16,6 +16,7 @@ package com.google.api.codegen.viewmodel;
 
 import com.google.auto.value.AutoValue;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /** This ViewModel defines the view model structure of ResourceName. */
 @AutoValue
@@ -35,6 +36,34 @@ public abstract class StaticLangApiResourceNameView
   // The list of path parameter views.
   public abstract List<StaticLangMemberView> pathParams();
 
+  // The segments of the path template, from which specialized parse and format functions are
+  // generated. Empty if the path template is parsed and formatted with a PathTemplate instead.
+  public abstract List<ResourceNamePathSegmentView> pathSegments();
+
+  public boolean hasPathSegments() {
+    return !pathSegments().isEmpty();
+  }
+
+  public List<ResourceNamePathSegmentView> pathVariables() {
+    return pathSegments()
+        .stream()
+        .filter(ResourceNamePathSegmentView::isVariable)
+        .collect(Collectors.toList());
+  }
+
+  public int pathVariableCount() {
+    return pathVariables().size();
+  }
+
+  // The total length of the literal text of the path template.
+  public int pathLiteralLength() {
+    return pathSegments()
+        .stream()
+        .filter(segment -> !segment.isVariable())
+        .mapToInt(ResourceNamePathSegmentView::length)
+        .sum();
+  }
+
   public static Builder newBuilder() {
     return new AutoValue_StaticLangApiResourceNameView.Builder();
   }
@@ -49,6 +78,8 @@ public abstract class StaticLangApiResourceNameView
 
     public abstract Builder pathParams(List<StaticLangMemberView> val);
 
+    public abstract Builder pathSegments(List<ResourceNamePathSegmentView> val);
+
     public abstract StaticLangApiResourceNameView build();
   }
 
@@ -71,8 +71,20 @@ public abstract class StaticLangClientFileView implements ViewModel {
     return !lroDetailViews().isEmpty();
   }
 
+  public abstract List<BatcherClassView> batchers();
+
+  public abstract List<GrpcStreamClassView> streams();
+
+  // Whether clients created with the default options share a connection.
+  public abstract boolean sharesChannel();
+
+  // The number of connections in the pool shared by the clients.
+  public abstract int channelPoolSize();
+
   public static Builder newBuilder() {
-    return new AutoValue_StaticLangClientFileView.Builder();
+    return new AutoValue_StaticLangClientFileView.Builder()
+        .sharesChannel(false)
+        .channelPoolSize(1);
   }
 
   @AutoValue.Builder
@@ -119,6 +131,14 @@ public abstract class StaticLangClientFileView implements ViewModel {
 
     public abstract Builder lroDetailViews(List<LongRunningOperationDetailView> val);
 
+    public abstract Builder batchers(List<BatcherClassView> val);
+
+    public abstract Builder streams(List<GrpcStreamClassView> val);
+
+    public abstract Builder sharesChannel(boolean val);
+
+    public abstract Builder channelPoolSize(int val);
+
     public abstract StaticLangClientFileView build();
   }
 }
@@ -34,6 +34,13 @@ public abstract class StaticLangPagedResponseView {
 
   public abstract List<PagedResponseIterateMethodView> iterateMethods();
 
+  /** The number of pages fetched ahead of the page being consumed. */
+  public abstract int prefetchPages();
+
+  public boolean hasPrefetch() {
+    return prefetchPages() > 0;
+  }
+
   public static Builder newBuilder() {
     return new AutoValue_StaticLangPagedResponseView.Builder();
   }
@@ -55,6 +62,8 @@ public abstract class StaticLangPagedResponseView {
 
     public abstract Builder iterateMethods(List<PagedResponseIterateMethodView> val);
 
+    public abstract Builder prefetchPages(int val);
+
     public abstract StaticLangPagedResponseView build();
   }
 }
@@ -114,10 +114,18 @@ public abstract class StaticLangStubSettingsView {
   @Nullable // Used in Java
   public abstract TransportProtocol transportProtocol();
 
+  // The number of channels in the pool of the default channel provider.
+  public abstract int channelPoolSize();
+
+  public boolean hasChannelPool() {
+    return channelPoolSize() > 1;
+  }
+
   public static Builder newBuilder() {
     return new AutoValue_StaticLangStubSettingsView.Builder()
         .transportProtocol(TransportProtocol.GRPC)
-        .useDefaultServicePortInEndpoint(true);
+        .useDefaultServicePortInEndpoint(true)
+        .channelPoolSize(1);
   }
 
   @AutoValue.Builder
@@ -170,6 +178,8 @@ public abstract class StaticLangStubSettingsView {
 
     public abstract Builder instantiatingChannelProvider(String val);
 
+    public abstract Builder channelPoolSize(int val);
+
     public abstract Builder transportProtocol(TransportProtocol transportProtocol);
 
     public abstract StaticLangStubSettingsView build();
@@ -0,0 +1,75 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen;
+
+import com.google.common.truth.Truth;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorRequest;
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class GeneratorPluginTest {
+  private static final CodeGeneratorRequest REQUEST =
+      CodeGeneratorRequest.newBuilder()
+          .setParameter("language=java,gapic_yaml=library_gapic.yaml,dev_samples")
+          .addProtoFile(FileDescriptorProto.newBuilder().setName("library.proto"))
+          .build();
+
+  @Test
+  public void testGenerate() throws Exception {
+    List<String> generatorArgs = new ArrayList<>();
+    FileDescriptorSet expectedDescriptors =
+        FileDescriptorSet.newBuilder().addAllFile(REQUEST.getProtoFileList()).build();
+    GeneratorPlugin plugin =
+        new GeneratorPlugin(
+            args -> {
+              generatorArgs.addAll(Arrays.asList(args));
+              Path descriptorSet = Paths.get(args[4].substring("--descriptor_set=".length()));
+              Truth.assertThat(FileDescriptorSet.parseFrom(Files.readAllBytes(descriptorSet)))
+                  .isEqualTo(expectedDescriptors);
+
+              Path outputDir = Paths.get(args[5].substring("--output=".length()));
+              Files.createDirectories(outputDir.resolve("src"));
+              Files.write(outputDir.resolve("src/Library.java"), "class Library {}".getBytes());
+              return 0;
+            });
+    CodeGeneratorResponse response = plugin.generate(REQUEST);
+
+    Truth.assertThat(generatorArgs.subList(0, 4))
+        .containsExactly(
+            "GAPIC_CODE", "--language=java", "--gapic_yaml=library_gapic.yaml", "--dev_samples")
+        .inOrder();
+    Truth.assertThat(response.hasError()).isFalse();
+    Truth.assertThat(response.getFileCount()).isEqualTo(1);
+    Truth.assertThat(response.getFile(0).getName()).isEqualTo("src/Library.java");
+    Truth.assertThat(response.getFile(0).getContentBytes().toString(StandardCharsets.UTF_8))
+        .isEqualTo("class Library {}");
+  }
+
+  @Test
+  public void testGeneratorFailure() throws Exception {
+    CodeGeneratorResponse response = new GeneratorPlugin(args -> 1).generate(REQUEST);
+    Truth.assertThat(response.getError()).contains("exit code 1");
+    Truth.assertThat(response.getFileCount()).isEqualTo(0);
+  }
+}
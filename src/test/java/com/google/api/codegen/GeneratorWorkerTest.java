@@ -0,0 +1,85 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen;
+
+import com.google.common.truth.Truth;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class GeneratorWorkerTest {
+  @Test
+  public void testRequests() throws Exception {
+    ByteArrayOutputStream requests = new ByteArrayOutputStream();
+    writeRequest(requests, 7, "GAPIC_CODE", "--language=java");
+    writeRequest(requests, 8, "FAIL");
+
+    ByteArrayOutputStream responses = new ByteArrayOutputStream();
+    List<String> firstArgs = new ArrayList<>();
+    GeneratorWorker worker =
+        new GeneratorWorker(
+            new ByteArrayInputStream(requests.toByteArray()),
+            responses,
+            args -> {
+              if (args[0].equals("FAIL")) {
+                throw new IllegalArgumentException("bad request");
+              }
+              firstArgs.add(args[1]);
+              System.out.println("generated");
+              return 0;
+            });
+    worker.run();
+
+    Truth.assertThat(firstArgs).containsExactly("--language=java");
+
+    CodedInputStream input = CodedInputStream.newInstance(responses.toByteArray());
+    CodedInputStream first = CodedInputStream.newInstance(input.readByteArray());
+    Truth.assertThat(first.readTag()).isEqualTo(18);
+    Truth.assertThat(first.readString().trim()).isEqualTo("generated");
+    Truth.assertThat(first.readTag()).isEqualTo(24);
+    Truth.assertThat(first.readInt32()).isEqualTo(7);
+    Truth.assertThat(first.isAtEnd()).isTrue();
+
+    CodedInputStream second = CodedInputStream.newInstance(input.readByteArray());
+    Truth.assertThat(second.readTag()).isEqualTo(8);
+    Truth.assertThat(second.readInt32()).isEqualTo(1);
+    Truth.assertThat(second.readTag()).isEqualTo(18);
+    Truth.assertThat(second.readString()).contains("bad request");
+    Truth.assertThat(second.readTag()).isEqualTo(24);
+    Truth.assertThat(second.readInt32()).isEqualTo(8);
+    Truth.assertThat(input.isAtEnd()).isTrue();
+  }
+
+  private static void writeRequest(ByteArrayOutputStream out, int requestId, String... arguments)
+      throws Exception {
+    ByteArrayOutputStream message = new ByteArrayOutputStream();
+    CodedOutputStream messageOutput = CodedOutputStream.newInstance(message);
+    for (String argument : arguments) {
+      messageOutput.writeString(1, argument);
+    }
+    // An input file entry, which the worker ignores.
+    messageOutput.writeString(2, "ignored");
+    messageOutput.writeInt32(3, requestId);
+    messageOutput.flush();
+
+    CodedOutputStream delimitedOutput = CodedOutputStream.newInstance(out);
+    delimitedOutput.writeByteArrayNoTag(message.toByteArray());
+    delimitedOutput.flush();
+  }
+}
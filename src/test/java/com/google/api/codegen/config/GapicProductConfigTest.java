@@ -0,0 +1,114 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.config;
+
+import com.google.api.codegen.ChannelPoolConfigProto;
+import com.google.api.codegen.CodegenTestUtil;
+import com.google.api.codegen.ConfigProto;
+import com.google.api.codegen.InterfaceConfigProto;
+import com.google.api.codegen.common.TargetLanguage;
+import com.google.api.tools.framework.model.Diag;
+import com.google.api.tools.framework.model.Model;
+import com.google.api.tools.framework.model.testing.TestDataLocator;
+import com.google.common.truth.Truth;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GapicProductConfigTest {
+
+  @ClassRule public static TemporaryFolder tempDir = new TemporaryFolder();
+
+  @Test
+  public void parallelInterfaceConfigsMatchSequential() {
+    Model sequentialModel = readModel();
+    GapicProductConfig sequentialConfig =
+        GapicProductConfig.create(
+            sequentialModel, readConfig(sequentialModel), null, TargetLanguage.JAVA, false);
+    Model parallelModel = readModel();
+    GapicProductConfig parallelConfig =
+        GapicProductConfig.create(
+            parallelModel, readConfig(parallelModel), null, TargetLanguage.JAVA, true);
+
+    Truth.assertThat(sequentialConfig).isNotNull();
+    Truth.assertThat(parallelConfig).isNotNull();
+    Truth.assertThat(parallelConfig.getInterfaceConfigMap().keySet())
+        .containsExactlyElementsIn(sequentialConfig.getInterfaceConfigMap().keySet())
+        .inOrder();
+    Truth.assertThat(getDiags(parallelModel))
+        .containsExactlyElementsIn(getDiags(sequentialModel))
+        .inOrder();
+  }
+
+  @Test
+  public void parallelInterfaceConfigsReportSequentialDiags() {
+    Model sequentialModel = readModel();
+    GapicProductConfig sequentialConfig =
+        GapicProductConfig.create(
+            sequentialModel,
+            withInvalidChannelPools(readConfig(sequentialModel)),
+            null,
+            TargetLanguage.JAVA,
+            false);
+    Model parallelModel = readModel();
+    GapicProductConfig parallelConfig =
+        GapicProductConfig.create(
+            parallelModel,
+            withInvalidChannelPools(readConfig(parallelModel)),
+            null,
+            TargetLanguage.JAVA,
+            true);
+
+    Truth.assertThat(sequentialConfig).isNull();
+    Truth.assertThat(parallelConfig).isNull();
+    // Each interface reports its own diag.
+    Truth.assertThat(sequentialModel.getDiagReporter().getDiagCollector().getErrorCount())
+        .isEqualTo(2);
+    Truth.assertThat(getDiags(parallelModel))
+        .containsExactlyElementsIn(getDiags(sequentialModel))
+        .inOrder();
+  }
+
+  private static Model readModel() {
+    TestDataLocator locator = TestDataLocator.create(GapicProductConfigTest.class);
+    locator.addTestDataSource(CodegenTestUtil.class, "testsrc/common");
+    return CodegenTestUtil.readModel(
+        locator,
+        tempDir,
+        new String[] {"multiple_services.proto"},
+        new String[] {"multiple_services.yaml"});
+  }
+
+  private static ConfigProto readConfig(Model model) {
+    TestDataLocator locator = TestDataLocator.create(GapicProductConfigTest.class);
+    locator.addTestDataSource(CodegenTestUtil.class, "testsrc/common");
+    return CodegenTestUtil.readConfig(
+        model.getDiagReporter().getDiagCollector(),
+        locator,
+        new String[] {"multiple_services_gapic.yaml"});
+  }
+
+  private static ConfigProto withInvalidChannelPools(ConfigProto configProto) {
+    ConfigProto.Builder builder = configProto.toBuilder();
+    for (InterfaceConfigProto.Builder interfaceConfigProto : builder.getInterfacesBuilderList()) {
+      interfaceConfigProto.setChannelPool(ChannelPoolConfigProto.newBuilder().setPoolSize(-1));
+    }
+    return builder.build();
+  }
+
+  private static Iterable<Diag> getDiags(Model model) {
+    return model.getDiagReporter().getDiagCollector().getDiags();
+  }
+}
@@ -0,0 +1,57 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.configgen;
+
+import com.google.common.truth.Truth;
+import org.junit.Test;
+
+public class ConfigWriterTest {
+  private static final String NL = System.lineSeparator();
+
+  @Test
+  public void testTrimmed() throws Exception {
+    StringBuilder out = new StringBuilder();
+    ConfigWriter writer = new ConfigWriter(out);
+    writer.append("key:");
+    writer.append(" ");
+    writer.beginTrimmed();
+    writer.appendIndent(4).append("value  ").newLine();
+    writer.endRegion();
+    writer.newLine();
+    Truth.assertThat(out.toString()).isEqualTo("key: value" + NL);
+  }
+
+  @Test
+  public void testListItem() throws Exception {
+    StringBuilder out = new StringBuilder();
+    ConfigWriter writer = new ConfigWriter(out);
+    writer.beginListItem(4, 2);
+    writer.appendIndent(4).append("# comment  ").newLine();
+    writer.appendIndent(4).append("name: foo").newLine();
+    writer.appendIndent(4).append("value: bar  ").newLine();
+    writer.endRegion();
+    Truth.assertThat(out.toString())
+        .isEqualTo("    # comment" + NL + "  - name: foo" + NL + "    value: bar" + NL);
+  }
+
+  @Test
+  public void testEmptyListItem() throws Exception {
+    StringBuilder out = new StringBuilder();
+    ConfigWriter writer = new ConfigWriter(out);
+    writer.beginListItem(2, 0);
+    writer.endRegion();
+    Truth.assertThat(out.toString()).isEqualTo("- " + NL);
+  }
+}
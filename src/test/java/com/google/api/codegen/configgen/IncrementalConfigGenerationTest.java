@@ -0,0 +1,96 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.configgen;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.api.codegen.CodegenTestUtil;
+import com.google.api.codegen.gapic.GapicTestConfig;
+import com.google.api.tools.framework.model.testing.TestConfig;
+import com.google.api.tools.framework.model.testing.TestDataLocator;
+import com.google.api.tools.framework.tools.ToolOptions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class IncrementalConfigGenerationTest {
+  @Rule public TemporaryFolder tempDir = new TemporaryFolder();
+
+  private TestDataLocator testDataLocator;
+  private TestConfig testConfig;
+
+  @Before
+  public void setup() throws Exception {
+    testDataLocator = TestDataLocator.create(CodegenTestUtil.class);
+    testDataLocator.addTestDataSource(CodegenTestUtil.class, "testsrc/common");
+    testDataLocator.addTestDataSource(CodegenTestUtil.class, "testsrc/libraryproto");
+    testConfig =
+        new GapicTestConfig(
+            testDataLocator,
+            tempDir.newFolder("protos").getPath(),
+            ImmutableList.of("library.proto"));
+  }
+
+  @Test
+  public void testMatchesFullRun() throws Exception {
+    Path fullOutput = tempDir.getRoot().toPath().resolve("full_gapic.yaml");
+    Path incrementalOutput = tempDir.getRoot().toPath().resolve("incremental_gapic.yaml");
+    generate(fullOutput, false);
+
+    // The first run has no fingerprints to compare with, and the second copies every interface.
+    generate(incrementalOutput, true);
+    assertThat(Files.exists(ConfigFingerprints.getFingerprintPath(incrementalOutput))).isTrue();
+    assertThat(readString(incrementalOutput)).isEqualTo(readString(fullOutput));
+    generate(incrementalOutput, true);
+    assertThat(readString(incrementalOutput)).isEqualTo(readString(fullOutput));
+  }
+
+  @Test
+  public void testEditedOutputNotReused() throws Exception {
+    Path fullOutput = tempDir.getRoot().toPath().resolve("full_gapic.yaml");
+    Path incrementalOutput = tempDir.getRoot().toPath().resolve("incremental_gapic.yaml");
+    generate(fullOutput, false);
+    generate(incrementalOutput, true);
+
+    String edited =
+        readString(incrementalOutput).replace("timeout_millis: 20000", "timeout_millis: 1");
+    assertThat(edited).isNotEqualTo(readString(fullOutput));
+    Files.write(incrementalOutput, edited.getBytes(StandardCharsets.UTF_8));
+
+    generate(incrementalOutput, true);
+    assertThat(readString(incrementalOutput)).isEqualTo(readString(fullOutput));
+  }
+
+  private void generate(Path outputFile, boolean incremental) throws Exception {
+    ToolOptions options = ToolOptions.create();
+    options.set(GapicConfigGeneratorApp.OUTPUT_FILE, outputFile.toString());
+    options.set(ToolOptions.DESCRIPTOR_SET, testConfig.getDescriptorFile().toString());
+    options.set(
+        ToolOptions.CONFIG_FILES,
+        Lists.newArrayList(testDataLocator.findTestData("library.yaml").getPath()));
+    options.set(GapicConfigGeneratorApp.INCREMENTAL, incremental);
+    new GapicConfigGeneratorApp(options).run();
+  }
+
+  private static String readString(Path file) throws Exception {
+    return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,79 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.configgen;
+
+import com.google.api.codegen.configgen.nodes.ConfigNode;
+import com.google.common.base.Joiner;
+import com.google.common.truth.Truth;
+import java.util.Map;
+import org.junit.Test;
+
+public class UnchangedInterfaceReaderTest {
+  private static final Joiner LINES = Joiner.on(System.lineSeparator());
+
+  private static final String CONFIG =
+      LINES.join(
+          "type: com.google.api.codegen.ConfigProto",
+          "# A list of API interface configurations.",
+          "interfaces:",
+          "  # The fully qualified name of the API interface.",
+          "- name: example.Foo",
+          "  methods:",
+          "  - name: GetFoo",
+          "    required_fields: []",
+          "  # The fully qualified name of the API interface.",
+          "- name: example.Bar",
+          "  methods:",
+          "  - name: GetBar",
+          "    timeout_millis: 1000",
+          "");
+
+  @Test
+  public void testRead() throws Exception {
+    Map<String, ConfigNode> nodes = new UnchangedInterfaceReader().read(CONFIG, name -> true);
+    Truth.assertThat(nodes.get("example.Foo").getText())
+        .isEqualTo(
+            LINES.join(
+                "  # The fully qualified name of the API interface.",
+                "- name: example.Foo",
+                "  methods:",
+                "  - name: GetFoo",
+                "    required_fields: []",
+                ""));
+    Truth.assertThat(nodes.get("example.Bar").getText())
+        .isEqualTo(
+            LINES.join(
+                "  # The fully qualified name of the API interface.",
+                "- name: example.Bar",
+                "  methods:",
+                "  - name: GetBar",
+                "    timeout_millis: 1000",
+                ""));
+  }
+
+  @Test
+  public void testReadChangedOnly() throws Exception {
+    Map<String, ConfigNode> nodes =
+        new UnchangedInterfaceReader().read(CONFIG, name -> name.equals("example.Bar"));
+    Truth.assertThat(nodes.containsKey("example.Foo")).isFalse();
+    Truth.assertThat(nodes.containsKey("example.Bar")).isTrue();
+  }
+
+  @Test
+  public void testReadInvalid() throws Exception {
+    Truth.assertThat(new UnchangedInterfaceReader().read("interfaces: [", name -> true).isEmpty())
+        .isTrue();
+  }
+}
@@ -0,0 +1,68 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.configgen.nodes;
+
+import com.google.common.truth.Truth;
+import org.junit.Test;
+
+public class ChildIndexTest {
+  @Test
+  public void testSetChild() throws Exception {
+    ConfigNode foo = new ScalarConfigNode(0, "foo");
+    ConfigNode bar = new ScalarConfigNode(1, "bar");
+    FieldConfigNode parent = new FieldConfigNode(0, "parent").setChild(foo.insertNext(bar));
+    ChildIndex index = parent.getChildIndex();
+    Truth.assertThat(index.findByText("foo")).isSameAs(foo);
+    Truth.assertThat(index.findByText("bar")).isSameAs(bar);
+    Truth.assertThat(index.findByText("baz").isPresent()).isFalse();
+    Truth.assertThat(index.getLast()).isSameAs(bar);
+  }
+
+  @Test
+  public void testInsertNext() throws Exception {
+    ConfigNode foo = new ScalarConfigNode(0, "foo");
+    ConfigNode baz = new ScalarConfigNode(2, "baz");
+    ListItemConfigNode parent = new ListItemConfigNode(0).setChild(foo.insertNext(baz));
+    ConfigNode bar = new ScalarConfigNode(1, "bar");
+    foo.insertNext(bar);
+    ConfigNode qux = new ScalarConfigNode(3, "qux");
+    baz.insertNext(qux);
+    ChildIndex index = parent.getChildIndex();
+    Truth.assertThat(index.findByText("bar")).isSameAs(bar);
+    Truth.assertThat(index.findByText("qux")).isSameAs(qux);
+    Truth.assertThat(index.getLast()).isSameAs(qux);
+  }
+
+  @Test
+  public void testTruncate() throws Exception {
+    ConfigNode foo = new ScalarConfigNode(0, "foo");
+    ConfigNode bar = new ScalarConfigNode(1, "bar");
+    FieldConfigNode parent = new FieldConfigNode(0, "parent").setChild(foo.insertNext(bar));
+    foo.insertNext(null);
+    ChildIndex index = parent.getChildIndex();
+    Truth.assertThat(index.findByText("bar").isPresent()).isFalse();
+    Truth.assertThat(index.getLast()).isSameAs(foo);
+  }
+
+  @Test
+  public void testAmbiguous() throws Exception {
+    ConfigNode first = new ScalarConfigNode(0, "foo");
+    ConfigNode second = new ScalarConfigNode(1, "foo");
+    FieldConfigNode parent = new FieldConfigNode(0, "parent").setChild(first.insertNext(second));
+    ChildIndex index = parent.getChildIndex();
+    Truth.assertThat(index.isAmbiguous("foo")).isTrue();
+    Truth.assertThat(ChildIndex.of(new ScalarConfigNode(0, "foo"))).isNull();
+  }
+}
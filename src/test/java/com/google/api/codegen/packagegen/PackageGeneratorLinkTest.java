@@ -0,0 +1,121 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.packagegen;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.api.codegen.MixedPathTestDataLocator;
+import com.google.api.codegen.gapic.GapicTestConfig;
+import com.google.api.tools.framework.model.testing.TestConfig;
+import com.google.api.tools.framework.model.testing.TestDataLocator;
+import com.google.api.tools.framework.tools.ToolOptions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/** Tests the python package generator with {@link CopyStrategy#LINK}. */
+public class PackageGeneratorLinkTest {
+  private static final String SOURCE_FILE = "test/nested/v1/test_pb2.py";
+  private static final String GENERATED_FILE = "test/nested/v1/__init__.py";
+
+  @Rule public TemporaryFolder tempDir = new TemporaryFolder();
+
+  private final TestDataLocator testDataLocator =
+      new MixedPathTestDataLocator(this.getClass(), Paths.get("src", "test", "java").toString());
+  private TestConfig testConfig;
+  private Path inputDir;
+  private Path outputDir;
+
+  @Before
+  public void setup() throws Exception {
+    testDataLocator.addTestDataSource(getClass(), "testdata");
+    testConfig =
+        new GapicTestConfig(
+            testDataLocator,
+            tempDir.newFolder("protos").getPath(),
+            ImmutableList.of("library.proto"));
+
+    // The input tree has a file at the path of a generated __init__.py.
+    inputDir = tempDir.newFolder("input").toPath();
+    Path fakeProtoDir = Paths.get(testDataLocator.findTestData("fakeprotodir").toURI());
+    Files.createDirectories(inputDir.resolve(SOURCE_FILE).getParent());
+    Files.copy(fakeProtoDir.resolve(SOURCE_FILE), inputDir.resolve(SOURCE_FILE));
+    Files.write(inputDir.resolve(GENERATED_FILE), "# source\n".getBytes(StandardCharsets.UTF_8));
+    outputDir = tempDir.getRoot().toPath().resolve("output");
+  }
+
+  @Test
+  public void testLinksSourceFiles() throws Exception {
+    generate();
+
+    assertThat(Files.isSameFile(inputDir.resolve(SOURCE_FILE), outputDir.resolve(SOURCE_FILE)))
+        .isTrue();
+    // The generated file replaces the link, and leaves the input file unchanged.
+    Path generatedInput = inputDir.resolve(GENERATED_FILE);
+    Path generatedOutput = outputDir.resolve(GENERATED_FILE);
+    assertThat(Files.isSameFile(generatedInput, generatedOutput)).isFalse();
+    assertThat(readString(generatedOutput)).isNotEqualTo("# source\n");
+    assertThat(readString(generatedInput)).isEqualTo("# source\n");
+  }
+
+  @Test
+  public void testSkipsUnchangedFiles() throws Exception {
+    // An output file with the contents of its source is kept as is, rather than linked.
+    Files.createDirectories(outputDir.resolve(SOURCE_FILE).getParent());
+    Files.copy(inputDir.resolve(SOURCE_FILE), outputDir.resolve(SOURCE_FILE));
+    generate();
+    assertThat(Files.isSameFile(inputDir.resolve(SOURCE_FILE), outputDir.resolve(SOURCE_FILE)))
+        .isFalse();
+
+    // An output file with other contents is replaced by a link.
+    Files.write(outputDir.resolve(SOURCE_FILE), "stale\n".getBytes(StandardCharsets.UTF_8));
+    generate();
+    assertThat(Files.isSameFile(inputDir.resolve(SOURCE_FILE), outputDir.resolve(SOURCE_FILE)))
+        .isTrue();
+    assertThat(readString(inputDir.resolve(GENERATED_FILE))).isEqualTo("# source\n");
+  }
+
+  private void generate() throws Exception {
+    ToolOptions options = ToolOptions.create();
+    options.set(ToolOptions.DESCRIPTOR_SET, testConfig.getDescriptorFile().toString());
+    options.set(
+        ToolOptions.CONFIG_FILES,
+        Lists.newArrayList(testDataLocator.findTestData("library.yaml").getPath()));
+    options.set(PackageGeneratorApp.OUTPUT_DIR, outputDir.toString());
+    options.set(PackageGeneratorApp.INPUT_DIR, inputDir.toString());
+    options.set(
+        PackageGeneratorApp.PACKAGE_CONFIG2_FILE,
+        testDataLocator.findTestData("library_pkg2.yaml").getPath());
+    options.set(PackageGeneratorApp.LANGUAGE, "python");
+    options.set(PackageGeneratorApp.ARTIFACT_TYPE, PackagingArtifactType.GRPC);
+    options.set(PackageGeneratorApp.COPY_STRATEGY, CopyStrategy.LINK);
+    new PackageGeneratorApp(
+            options,
+            testDataLocator.findTestData(
+                "com/google/api/codegen/testsrc/common/frozen_dependencies.yaml"))
+        .run();
+  }
+
+  private static String readString(Path file) throws Exception {
+    return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+  }
+}
@@ -98,6 +98,8 @@ public class GoGapicSurfaceTransformerTest {
     Truth.assertThat(context.getImportTypeTable().getImports()).doesNotContainKey("time");
     Truth.assertThat(context.getImportTypeTable().getImports())
         .doesNotContainKey("cloud.google.com/go/longrunning");
+    Truth.assertThat(context.getImportTypeTable().getImports())
+        .doesNotContainKey("google.golang.org/api/support/bundler");
   }
 
   @Test
@@ -121,6 +123,16 @@ public class GoGapicSurfaceTransformerTest {
         .doesNotContainKey("cloud.google.com/go/longrunning");
   }
 
+  @Test
+  public void testGetImportsBatching() {
+    MethodModel method = new ProtoMethodModel(getMethod(context.getInterface(), "BatchMethod"));
+    transformer.addXApiImports(context, Collections.singletonList(method));
+    Truth.assertThat(context.getImportTypeTable().getImports()).containsKey("sync");
+    Truth.assertThat(context.getImportTypeTable().getImports())
+        .containsKey("google.golang.org/api/support/bundler");
+    Truth.assertThat(context.getImportTypeTable().getImports()).doesNotContainKey("math");
+  }
+
   @Test
   public void testGetImportsLro() {
     MethodModel method = new ProtoMethodModel(getMethod(context.getInterface(), "LroMethod"));
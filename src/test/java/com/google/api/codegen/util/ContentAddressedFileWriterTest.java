@@ -0,0 +1,124 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.util;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.api.tools.framework.snippet.Doc;
+import com.google.api.tools.framework.tools.ToolUtil;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ContentAddressedFileWriterTest {
+  @Rule public TemporaryFolder tempDir = new TemporaryFolder();
+
+  @Test
+  public void testSharedContents() throws Exception {
+    Path storeDir = tempDir.newFolder("store").toPath();
+    Path outputDir = tempDir.newFolder("output").toPath();
+    ContentAddressedFileWriter writer = new ContentAddressedFileWriter(storeDir);
+
+    writer.writeFiles(
+        ImmutableMap.of(
+            "java/LICENSE", "license",
+            "python/LICENSE", Doc.text("license"),
+            "java/gradlew", "license".getBytes(StandardCharsets.UTF_8),
+            "java/README.md", "readme"),
+        outputDir.toString(),
+        ImmutableSet.of("java/gradlew"));
+
+    assertThat(readString(outputDir.resolve("java/LICENSE"))).isEqualTo("license");
+    assertThat(readString(outputDir.resolve("python/LICENSE"))).isEqualTo("license");
+    assertThat(readString(outputDir.resolve("java/gradlew"))).isEqualTo("license");
+    assertThat(readString(outputDir.resolve("java/README.md"))).isEqualTo("readme");
+    assertThat(Files.isExecutable(outputDir.resolve("java/gradlew"))).isTrue();
+    Path javaLicense = outputDir.resolve("java/LICENSE");
+    Path pythonLicense = outputDir.resolve("python/LICENSE");
+    assertThat(Files.isSameFile(javaLicense, pythonLicense)).isTrue();
+
+    // The license is stored once, and once more as an executable.
+    try (Stream<Path> storedFiles = Files.walk(storeDir)) {
+      assertThat(storedFiles.filter(Files::isRegularFile).count()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  public void testRewrite() throws Exception {
+    Path storeDir = tempDir.newFolder("store").toPath();
+    Path outputDir = tempDir.newFolder("output").toPath();
+    ContentAddressedFileWriter writer = new ContentAddressedFileWriter(storeDir);
+
+    writer.writeFiles(ImmutableMap.of("LICENSE", "old"), outputDir.toString(), ImmutableSet.of());
+    writer.writeFiles(ImmutableMap.of("LICENSE", "new"), outputDir.toString(), ImmutableSet.of());
+
+    assertThat(readString(outputDir.resolve("LICENSE"))).isEqualTo("new");
+  }
+
+  @Test
+  public void testMatchesToolUtil() throws Exception {
+    Map<String, Object> outputFiles =
+        ImmutableMap.of(
+            "Foo.java",
+            Doc.text("class Foo {\n  int x;\n}\n"),
+            "README.md",
+            "# Foo\n",
+            "gradlew",
+            new byte[] {0, 1, 2});
+    Path linkedDir = tempDir.newFolder("linked").toPath();
+    Path writtenDir = tempDir.newFolder("written").toPath();
+
+    new ContentAddressedFileWriter(tempDir.newFolder("store").toPath())
+        .writeFiles(outputFiles, linkedDir.toString(), ImmutableSet.of());
+    ToolUtil.writeFiles(outputFiles, writtenDir.toString());
+
+    for (String file : outputFiles.keySet()) {
+      assertThat(Files.readAllBytes(linkedDir.resolve(file)))
+          .isEqualTo(Files.readAllBytes(writtenDir.resolve(file)));
+    }
+  }
+
+  @Test
+  public void testStoredFilesReadOnly() throws Exception {
+    Path storeDir = tempDir.newFolder("store").toPath();
+    Path outputDir = tempDir.newFolder("output").toPath();
+    ContentAddressedFileWriter writer = new ContentAddressedFileWriter(storeDir);
+
+    writer.writeFiles(
+        ImmutableMap.of("LICENSE", "license"), outputDir.toString(), ImmutableSet.of());
+
+    // The output is the stored body, and no temp files are left in the store.
+    try (Stream<Path> storedFiles = Files.walk(storeDir)) {
+      assertThat(storedFiles.filter(Files::isRegularFile).count()).isEqualTo(1);
+    }
+    assertThat(Files.getPosixFilePermissions(outputDir.resolve("LICENSE")))
+        .containsNoneOf(
+            PosixFilePermission.OWNER_WRITE,
+            PosixFilePermission.GROUP_WRITE,
+            PosixFilePermission.OTHERS_WRITE);
+  }
+
+  private static String readString(Path file) throws Exception {
+    return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+  }
+}
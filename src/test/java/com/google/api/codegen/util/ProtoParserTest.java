@@ -204,6 +204,15 @@ public class ProtoParserTest {
     assertThat(listShelvesFlattenings.size()).isEqualTo(0);
   }
 
+  @Test
+  public void testAnnotationsDecodedOnce() {
+    Method getShelfMethod = libraryService.lookupMethod("GetShelf");
+    assertThat(protoParser.getMethodSignatures(getShelfMethod))
+        .isSameAs(protoParser.getMethodSignatures(getShelfMethod));
+    assertThat(protoParser.getLongRunningOperation(getBigBookMethod))
+        .isSameAs(protoParser.getLongRunningOperation(getBigBookMethod));
+  }
+
   /** The OAuth scopes for this service (e.g. "https://cloud.google.com/auth/cloud-platform"). */
   @Test
   public void testGetAuthScopes() {
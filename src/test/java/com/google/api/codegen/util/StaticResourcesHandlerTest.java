@@ -0,0 +1,39 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.util;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.truth.Truth;
+import java.util.Map;
+import org.junit.Test;
+
+public class StaticResourcesHandlerTest {
+  @Test
+  public void testResourcesAreShared() throws Exception {
+    Map<String, byte[]> first =
+        new StaticResourcesHandler(ImmutableMap.of("java/static/gradlew", "gradlew"))
+            .getResources();
+    Map<String, byte[]> second =
+        new StaticResourcesHandler(ImmutableMap.of("java/static/gradlew", "other/gradlew"))
+            .getResources();
+    Truth.assertThat(first.get("gradlew").length).isGreaterThan(0);
+    Truth.assertThat(second.get("other/gradlew")).isSameAs(first.get("gradlew"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMissingResource() throws Exception {
+    new StaticResourcesHandler(ImmutableMap.of("java/static/missing", "missing")).getResources();
+  }
+}
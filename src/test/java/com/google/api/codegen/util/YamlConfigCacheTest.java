@@ -0,0 +1,118 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.util;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.api.codegen.ConfigProto;
+import com.google.api.tools.framework.model.BoundedDiagCollector;
+import com.google.api.tools.framework.model.ConfigSource;
+import com.google.api.tools.framework.model.Diag;
+import com.google.api.tools.framework.model.SimpleLocation;
+import com.google.api.tools.framework.yaml.YamlReader;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Message;
+import java.nio.file.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class YamlConfigCacheTest {
+  private static final String CONFIG_YAML =
+      "type: com.google.api.codegen.ConfigProto\n"
+          + "config_schema_version: 1.0.0\n"
+          + "language: java\n";
+  private static final ImmutableMap<String, Message> SUPPORTED_CONFIG_TYPES =
+      ImmutableMap.of(ConfigProto.getDescriptor().getFullName(), ConfigProto.getDefaultInstance());
+
+  @Rule public TemporaryFolder tempDir = new TemporaryFolder();
+
+  @Test
+  public void testCacheHit() {
+    Path cacheDir = tempDir.getRoot().toPath();
+    ConfigSource source = read(new YamlConfigCache(cacheDir, "1.0"), CONFIG_YAML);
+    assertThat(tempDir.getRoot().listFiles()).hasLength(1);
+
+    ConfigSource cachedSource = read(new YamlConfigCache(cacheDir, "1.0"), CONFIG_YAML);
+    assertThat(cachedSource.getConfig()).isEqualTo(source.getConfig());
+    assertThat(((ConfigProto) cachedSource.getConfig()).getLanguage()).isEqualTo("java");
+    assertThat(tempDir.getRoot().listFiles()).hasLength(1);
+  }
+
+  @Test
+  public void testKeyedByVersionAndContents() {
+    Path cacheDir = tempDir.getRoot().toPath();
+    read(new YamlConfigCache(cacheDir, "1.0"), CONFIG_YAML);
+    read(new YamlConfigCache(cacheDir, "2.0"), CONFIG_YAML);
+    read(new YamlConfigCache(cacheDir, "2.0"), CONFIG_YAML + "domain_layer_location: x\n");
+
+    assertThat(tempDir.getRoot().listFiles()).hasLength(3);
+  }
+
+  @Test
+  public void testWarningsReplayed() {
+    Path cacheDir = tempDir.getRoot().toPath();
+    BoundedDiagCollector diagCollector = new BoundedDiagCollector();
+    new YamlConfigCache(
+            cacheDir,
+            "1.0",
+            (collector, inputName, input, supportedConfigTypes) -> {
+              collector.addDiag(
+                  Diag.warning(new SimpleLocation(inputName), "Field foo is deprecated"));
+              return YamlReader.readConfig(collector, inputName, input, supportedConfigTypes);
+            })
+        .readConfig(diagCollector, "test_gapic.yaml", CONFIG_YAML, SUPPORTED_CONFIG_TYPES);
+    assertThat(diagCollector.getDiags()).hasSize(1);
+
+    BoundedDiagCollector cachedDiagCollector = new BoundedDiagCollector();
+    ConfigSource cachedSource =
+        new YamlConfigCache(
+                cacheDir,
+                "1.0",
+                (collector, inputName, input, supportedConfigTypes) -> {
+                  throw new AssertionError("Expected a cache hit");
+                })
+            .readConfig(
+                cachedDiagCollector, "test_gapic.yaml", CONFIG_YAML, SUPPORTED_CONFIG_TYPES);
+
+    assertThat(((ConfigProto) cachedSource.getConfig()).getLanguage()).isEqualTo("java");
+    assertThat(cachedDiagCollector.hasErrors()).isFalse();
+    assertThat(cachedDiagCollector.getDiags()).hasSize(1);
+    Diag warning = cachedDiagCollector.getDiags().get(0);
+    assertThat(warning.getKind()).isEqualTo(Diag.Kind.WARNING);
+    assertThat(warning.getMessage()).isEqualTo("Field foo is deprecated");
+    assertThat(warning.getLocation().getDisplayString()).isEqualTo("test_gapic.yaml");
+  }
+
+  @Test
+  public void testErrorsNotCached() {
+    BoundedDiagCollector diagCollector = new BoundedDiagCollector();
+    ConfigSource source =
+        new YamlConfigCache(tempDir.getRoot().toPath(), "1.0")
+            .readConfig(diagCollector, "bad.yaml", "type: unknown.Type\n", SUPPORTED_CONFIG_TYPES);
+
+    assertThat(source).isNull();
+    assertThat(diagCollector.hasErrors()).isTrue();
+    assertThat(tempDir.getRoot().listFiles()).isEmpty();
+  }
+
+  private static ConfigSource read(YamlConfigCache cache, String input) {
+    BoundedDiagCollector diagCollector = new BoundedDiagCollector();
+    ConfigSource source =
+        cache.readConfig(diagCollector, "test_gapic.yaml", input, SUPPORTED_CONFIG_TYPES);
+    assertThat(diagCollector.hasErrors()).isFalse();
+    return source;
+  }
+}
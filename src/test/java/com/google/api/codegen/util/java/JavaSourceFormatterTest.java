@@ -0,0 +1,95 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.util.java;
+
+import com.google.api.tools.framework.snippet.Doc;
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.truth.Truth;
+import com.google.googlejavaformat.java.Main;
+import java.io.ByteArrayInputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JavaSourceFormatterTest {
+  @Rule public TemporaryFolder tempDir = new TemporaryFolder();
+
+  @Test
+  public void testFormatJavaDocs() {
+    Doc gradleDoc = Doc.text("apply plugin: 'java'");
+    byte[] wrapper = new byte[] {1, 2, 3};
+    Map<String, Object> outputFiles =
+        ImmutableMap.of(
+            "build.gradle",
+            gradleDoc,
+            "src/Foo.java",
+            Doc.text("class Foo{int x;}"),
+            "gradle-wrapper.jar",
+            wrapper);
+
+    Map<String, Object> formattedFiles = new JavaSourceFormatter().formatJavaDocs(outputFiles);
+
+    Truth.assertThat(formattedFiles.keySet())
+        .containsExactly("build.gradle", "src/Foo.java", "gradle-wrapper.jar")
+        .inOrder();
+    Truth.assertThat(formattedFiles.get("build.gradle")).isSameAs(gradleDoc);
+    Truth.assertThat(formattedFiles.get("gradle-wrapper.jar")).isSameAs(wrapper);
+    Truth.assertThat(((Doc) formattedFiles.get("src/Foo.java")).prettyPrint(100))
+        .isEqualTo("class Foo {\n  int x;\n}\n");
+  }
+
+  @Test
+  public void testMatchesCommandLine() throws Exception {
+    String source =
+        Joiner.on('\n')
+            .join(
+                "package foo;",
+                "",
+                "import java.util.Set;",
+                "import java.util.Map;",
+                "import java.util.List;",
+                "",
+                "class Foo{List<String> x;Map<String,String> y;}",
+                "");
+
+    // Format the same source as the Bazel rules do, with the CLI and --replace.
+    Path file = tempDir.newFile("Foo.java").toPath();
+    Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+    StringWriter errors = new StringWriter();
+    int exitCode =
+        new Main(
+                new PrintWriter(new StringWriter(), true),
+                new PrintWriter(errors, true),
+                new ByteArrayInputStream(new byte[0]))
+            .format("--replace", file.toString());
+    Truth.assertWithMessage(errors.toString()).that(exitCode).isEqualTo(0);
+    String expected = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+
+    Map<String, Object> formattedFiles =
+        new JavaSourceFormatter().formatJavaDocs(ImmutableMap.of("Foo.java", Doc.text(source)));
+
+    String formatted = ((Doc) formattedFiles.get("Foo.java")).prettyPrint(100);
+    Truth.assertThat(formatted).isEqualTo(expected);
+    Truth.assertThat(formatted).doesNotContain("java.util.Set");
+    Truth.assertThat(formatted).contains("import java.util.List;\nimport java.util.Map;\n");
+  }
+}
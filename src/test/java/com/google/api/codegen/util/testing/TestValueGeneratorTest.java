@@ -0,0 +1,53 @@
+/* Copyright 2018 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.api.codegen.util.testing;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.api.codegen.config.TypeModel;
+import com.google.api.codegen.util.Name;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class TestValueGeneratorTest {
+  // Produces the same value for every identifier that starts with the same word.
+  private static final ValueProducer PREFIX_PRODUCER =
+      (type, identifier) ->
+          identifier.toLowerUnderscore().split("_")[0]
+              + identifier.toLowerUnderscore().replaceAll("[^1]", "").length();
+
+  @Test
+  public void testUniqueValues() {
+    TypeModel stringType = Mockito.mock(TypeModel.class);
+    Mockito.when(stringType.getPrimitiveTypeName()).thenReturn("string");
+    TestValueGenerator generator = new TestValueGenerator(PREFIX_PRODUCER);
+
+    String first = generator.getAndStoreValue(stringType, Name.from("foo", "bar"));
+    String second = generator.getAndStoreValue(stringType, Name.from("foo", "baz"));
+    assertThat(first).isEqualTo("foo0");
+    assertThat(second).isEqualTo("foo1");
+    assertThat(generator.getAndStoreValue(stringType, Name.from("foo", "bar"))).isEqualTo(first);
+  }
+
+  @Test
+  public void testBoolValuesRepeat() {
+    TypeModel boolType = Mockito.mock(TypeModel.class);
+    Mockito.when(boolType.getPrimitiveTypeName()).thenReturn(new String("bool"));
+    TestValueGenerator generator = new TestValueGenerator((type, identifier) -> "true");
+
+    assertThat(generator.getAndStoreValue(boolType, Name.from("foo"))).isEqualTo("true");
+    assertThat(generator.getAndStoreValue(boolType, Name.from("bar"))).isEqualTo("true");
+  }
+}